@@ -1,9 +1,10 @@
 package com.learning.main;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 import com.learning.beans.Student;
+import com.learning.startup.RecordingApplicationStartup;
+import com.learning.startup.StartupReport;
 
 public class Main 
 {
@@ -11,7 +12,11 @@ public class Main
 	{
 		// Load Spring Configuration file
 		String config = "/com/learning/resources/applicationContext.xml";
-		ApplicationContext context = new ClassPathXmlApplicationContext(config); //Initiate Spring Container
+		RecordingApplicationStartup startup = new RecordingApplicationStartup(); //records where startup time goes
+		ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext(new String[] {config}, false, null); //Initiate Spring Container (not started yet)
+		context.setApplicationStartup(startup);
+		context.refresh(); //Start it: read the XML and create the beans
+		StartupReport.write("xml", startup);
 		
 //		Student obj = new Student(); //(applicationContext) Spring Container builds Object itself
 		
@@ -0,0 +1,358 @@
+package com.learning.startup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.learning.startup.RecordingApplicationStartup.RecordedStep;
+
+/*
+ * Turns the steps recorded during startup into a JSON report:
+ *   - totalMillis: wall time from the first step's start to the last step's end
+ *   - phases:   steps outside refresh (e.g. registering @Configuration classes) and the direct steps of
+ *               `spring.context.refresh` (post-processing, bean creation, ...), plus "(not instrumented)"
+ *               for refresh time Spring reports no step for (e.g. reading the XML file). Steps started on
+ *               another thread while refresh runs (bootstrap.mode=parallel) have no parent and count as
+ *               refresh steps; a phase's `millis` is the wall time its steps covered, overlaps counted once
+ *   - scanning: `spring.context.base-packages.scan` (context.scan(..)) and `spring.context.config-classes.parse`
+ *               (@Configuration parsing, which runs @ComponentScan). <context:component-scan> in XML scans while
+ *               the file is read, so its cost is part of "(not instrumented)"
+ *   - beans:    every `spring.beans.instantiate`; `millis` includes the beans it depends on, `selfMillis` does not.
+ *               With more than one thread (`threads` > 1) beans are created side by side, so their times
+ *               overlap and add up to more than the wall time; the report then carries a `note` saying so
+ *
+ * Written to <dir>/startup-<style>.json (latest run), and one summary line is appended to
+ * <dir>/startup-history.jsonl so that XML / annotation / Java-config startup can be compared run over run.
+ * <dir> is the `startup.report.dir` system property, target/startup-reports by default.
+ */
+public final class StartupReport
+{
+	public static final String DIRECTORY_PROPERTY = "startup.report.dir";
+
+	private static final String REFRESH = "spring.context.refresh";
+	private static final String INSTANTIATE = "spring.beans.instantiate";
+	private static final String SCAN = "spring.context.base-packages.scan";
+	private static final String PARSE = "spring.context.config-classes.parse";
+
+	private StartupReport()
+	{
+	}
+
+	// Writes the report, prints where it went and returns the file (null if it could not be written)
+	public static Path write(String style, RecordingApplicationStartup startup)
+	{
+		Path directory = Path.of(System.getProperty(DIRECTORY_PROPERTY, "target/startup-reports"));
+		Path report = directory.resolve("startup-" + style + ".json");
+		List<RecordedStep> steps = startup.getSteps();
+		String recordedAt = Instant.now().toString();
+		try
+		{
+			Files.createDirectories(directory);
+			Files.writeString(report, toJson(style, recordedAt, steps), StandardCharsets.UTF_8);
+			Files.writeString(directory.resolve("startup-history.jsonl"), summaryLine(style, recordedAt, steps) + "\n",
+					StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		}
+		catch (IOException ex)
+		{
+			System.err.println("Could not write startup report " + report + ": " + ex);
+			return null;
+		}
+		System.out.println("Startup report: " + report.toAbsolutePath());
+		return report;
+	}
+
+	public static String toJson(String style, String recordedAt, List<RecordedStep> steps)
+	{
+		RecordedStep refresh = first(steps, REFRESH);
+		StringBuilder json = new StringBuilder(4096);
+		json.append("{\n");
+		json.append("  \"style\": ").append(quote(style)).append(",\n");
+		json.append("  \"recordedAt\": ").append(quote(recordedAt)).append(",\n");
+		json.append("  \"totalMillis\": ").append(millis(totalNanos(steps))).append(",\n");
+		json.append("  \"refreshMillis\": ").append(millis(refresh == null ? 0 : refresh.getDurationNanos())).append(",\n");
+		int threads = threadCount(steps);
+		json.append("  \"threads\": ").append(threads).append(",\n");
+		if (threads > 1)
+		{
+			json.append("  \"note\": ").append(quote("steps ran on " + threads + " threads: bean times overlap and "
+					+ "add up to more than the wall time; phase millis count overlapping steps once")).append(",\n");
+		}
+
+		// phases: top-level steps and the direct children of refresh, same-named steps together
+		// (e.g. one spring.beans.instantiate per singleton)
+		Map<String, List<RecordedStep>> phases = new LinkedHashMap<>();
+		List<RecordedStep> instrumented = new ArrayList<>();
+		for (RecordedStep step : steps)
+		{
+			if (refresh != null && inRefresh(step, refresh))
+			{
+				phases.computeIfAbsent(step.getName(), key -> new ArrayList<>()).add(step);
+				instrumented.add(step);
+			}
+			else if (step.getParentId() == null && step != refresh)
+			{
+				phases.computeIfAbsent(step.getName(), key -> new ArrayList<>()).add(step);
+			}
+		}
+		Map<String, long[]> phaseTimes = new LinkedHashMap<>(); // name → {nanos, count}
+		for (Map.Entry<String, List<RecordedStep>> phase : phases.entrySet())
+		{
+			phaseTimes.put(phase.getKey(), new long[] { coveredNanos(phase.getValue()), phase.getValue().size() });
+		}
+		if (refresh != null)
+		{
+			phaseTimes.put("(not instrumented)", new long[] { refresh.getDurationNanos() - coveredNanos(instrumented), 1 });
+		}
+		json.append("  \"phases\": [");
+		String separator = "\n";
+		for (Map.Entry<String, long[]> phase : phaseTimes.entrySet())
+		{
+			json.append(separator).append("    { \"step\": ").append(quote(phase.getKey()))
+				.append(", \"millis\": ").append(millis(phase.getValue()[0]))
+				.append(", \"count\": ").append(phase.getValue()[1]).append(" }");
+			separator = ",\n";
+		}
+		json.append("\n  ],\n");
+
+		json.append("  \"scanning\": [");
+		separator = "\n";
+		for (RecordedStep step : steps)
+		{
+			if (isScanning(step))
+			{
+				String detail = step.getName().equals(SCAN) ? step.getTag("packages") : "classes: " + step.getTag("classCount");
+				json.append(separator).append("    { \"step\": ").append(quote(step.getName()))
+					.append(", \"detail\": ").append(quote(detail))
+					.append(", \"millis\": ").append(millis(step.getDurationNanos())).append(" }");
+				separator = ",\n";
+			}
+		}
+		json.append("\n  ],\n");
+		json.append("  \"scanningMillis\": ").append(millis(scanningNanos(steps))).append(",\n");
+
+		json.append("  \"beans\": [");
+		separator = "\n";
+		for (RecordedStep bean : beans(steps))
+		{
+			json.append(separator).append("    { \"bean\": ").append(quote(bean.getTag("beanName")))
+				.append(", \"type\": ").append(quote(bean.getTag("beanType")))
+				.append(", \"millis\": ").append(millis(bean.getDurationNanos()))
+				.append(", \"selfMillis\": ").append(millis(selfNanos(bean, steps))).append(" }");
+			separator = ",\n";
+		}
+		json.append("\n  ]\n");
+		json.append("}\n");
+		return json.toString();
+	}
+
+	private static String summaryLine(String style, String recordedAt, List<RecordedStep> steps)
+	{
+		RecordedStep refresh = first(steps, REFRESH);
+		return "{\"style\": " + quote(style)
+				+ ", \"recordedAt\": " + quote(recordedAt)
+				+ ", \"totalMillis\": " + millis(totalNanos(steps))
+				+ ", \"refreshMillis\": " + millis(refresh == null ? 0 : refresh.getDurationNanos())
+				+ ", \"scanningMillis\": " + millis(scanningNanos(steps))
+				+ ", \"beans\": " + beans(steps).size() + "}";
+	}
+
+	// first start to last end: steps on other threads overlap the ones on the main thread, so durations can't be added
+	private static long totalNanos(List<RecordedStep> steps)
+	{
+		if (steps.isEmpty())
+		{
+			return 0;
+		}
+		long end = Long.MIN_VALUE;
+		for (RecordedStep step : steps)
+		{
+			end = Math.max(end, step.getEndNanos());
+		}
+		return end - steps.get(0).getStartNanos(); // steps are sorted by start
+	}
+
+	// a direct step of refresh, or a step without parent started on another thread while refresh ran
+	private static boolean inRefresh(RecordedStep step, RecordedStep refresh)
+	{
+		if (step.getParentId() == null)
+		{
+			return step != refresh && step.getStartNanos() >= refresh.getStartNanos()
+					&& step.getStartNanos() < refresh.getStartNanos() + refresh.getDurationNanos();
+		}
+		return step.getParentId() == refresh.getId();
+	}
+
+	// wall time covered by the steps, time during which several of them ran counted once
+	private static long coveredNanos(List<RecordedStep> steps)
+	{
+		List<RecordedStep> sorted = new ArrayList<>(steps);
+		sorted.sort(Comparator.comparingLong(RecordedStep::getStartNanos));
+		long covered = 0;
+		long end = Long.MIN_VALUE;
+		for (RecordedStep step : sorted)
+		{
+			long start = Math.max(step.getStartNanos(), end);
+			if (step.getEndNanos() > start)
+			{
+				covered += step.getEndNanos() - start;
+				end = step.getEndNanos();
+			}
+		}
+		return covered;
+	}
+
+	private static int threadCount(List<RecordedStep> steps)
+	{
+		Set<String> threads = new HashSet<>();
+		for (RecordedStep step : steps)
+		{
+			threads.add(step.getThreadName());
+		}
+		return threads.size();
+	}
+
+	// outermost scanning steps only, so that a scan inside config-class parsing is not counted twice
+	private static long scanningNanos(List<RecordedStep> steps)
+	{
+		Map<Long, RecordedStep> byId = new LinkedHashMap<>();
+		for (RecordedStep step : steps)
+		{
+			byId.put(step.getId(), step);
+		}
+		long total = 0;
+		for (RecordedStep step : steps)
+		{
+			if (isScanning(step) && !insideScanning(step, byId))
+			{
+				total += step.getDurationNanos();
+			}
+		}
+		return total;
+	}
+
+	private static boolean insideScanning(RecordedStep step, Map<Long, RecordedStep> byId)
+	{
+		for (Long parent = step.getParentId(); parent != null; )
+		{
+			RecordedStep enclosing = byId.get(parent);
+			if (enclosing == null)
+			{
+				return false;
+			}
+			if (isScanning(enclosing))
+			{
+				return true;
+			}
+			parent = enclosing.getParentId();
+		}
+		return false;
+	}
+
+	private static boolean isScanning(RecordedStep step)
+	{
+		return step.getName().equals(SCAN) || step.getName().equals(PARSE);
+	}
+
+	private static List<RecordedStep> beans(List<RecordedStep> steps)
+	{
+		List<RecordedStep> beans = new ArrayList<>();
+		for (RecordedStep step : steps)
+		{
+			if (step.getName().equals(INSTANTIATE))
+			{
+				beans.add(step);
+			}
+		}
+		return beans;
+	}
+
+	// a bean's time minus the time of the beans created while it was being created (its dependencies)
+	private static long selfNanos(RecordedStep bean, List<RecordedStep> steps)
+	{
+		long self = bean.getDurationNanos();
+		Long id = bean.getId();
+		for (RecordedStep step : steps)
+		{
+			if (step.getName().equals(INSTANTIATE) && id.equals(step.getParentId()))
+			{
+				self -= step.getDurationNanos();
+			}
+		}
+		return self;
+	}
+
+	private static RecordedStep first(List<RecordedStep> steps, String name)
+	{
+		for (RecordedStep step : steps)
+		{
+			if (step.getName().equals(name))
+			{
+				return step;
+			}
+		}
+		return null;
+	}
+
+	private static String millis(long nanos)
+	{
+		return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+	}
+
+	private static String quote(String value)
+	{
+		if (value == null)
+		{
+			return "null";
+		}
+		StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++)
+		{
+			char c = value.charAt(i);
+			switch (c)
+			{
+				case '"' -> quoted.append("\\\"");
+				case '\\' -> quoted.append("\\\\");
+				case '\n' -> quoted.append("\\n");
+				case '\r' -> quoted.append("\\r");
+				case '\t' -> quoted.append("\\t");
+				default ->
+				{
+					if (c < 0x20)
+					{
+						quoted.append(String.format("\\u%04x", (int) c));
+					}
+					else
+					{
+						quoted.append(c);
+					}
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
+
+
+/*
+- Example (trimmed):
+	{
+	  "style": "xml",
+	  "totalMillis": 402.7,
+	  "refreshMillis": 402.7,
+	  "phases": [ ..., { "step": "(not instrumented)", "millis": 171.9, "count": 1 } ],
+	  "scanning": [ ],
+	  "beans": [ { "bean": "uniqueID", "type": null, "millis": 4.1, "selfMillis": 4.1 } ]
+	}
+- Compare styles with: cat target/startup-reports/startup-history.jsonl
+*/
@@ -0,0 +1,56 @@
+package com.learning.aot;
+
+import java.nio.file.Path;
+
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.FileSystemGeneratedFiles;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.javapoet.ClassName;
+
+import com.learning.main.Main;
+import com.learning.resources.SpringConfigurationFile;
+
+/*
+ * Build-time step of the `aot` Maven profile (runs after `compile`, see pom.xml).
+ * It parses SpringConfigurationFile once, at build time, and writes Java source that registers the same
+ * bean definitions directly:
+ *   - com.learning.resources.SpringConfigurationFile__BeanDefinitions
+ *   - com.learning.main.Main__ApplicationContextInitializer   (used by AotMain)
+ *
+ * usage: AotProcessor <source-dir> <resource-dir> <class-dir>
+ */
+public class AotProcessor
+{
+	public static final String INITIALIZER = "com.learning.main.Main__ApplicationContextInitializer";
+
+	public static void main(String[] args)
+	{
+		Path sources = Path.of(args[0]);
+		Path resources = Path.of(args[1]);
+		Path classes = Path.of(args[2]);
+
+		// Same registration as Main, but the context is only "refreshed for AOT processing": bean definitions are
+		// resolved, no bean is created
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.register(SpringConfigurationFile.class);
+
+		FileSystemGeneratedFiles files = new FileSystemGeneratedFiles(kind -> switch (kind) {
+			case SOURCE -> sources;
+			case RESOURCE -> resources;
+			case CLASS -> classes;
+		});
+		DefaultGenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.get(Main.class)), files);
+
+		ClassName initializer = new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+		generationContext.writeGeneratedContent();
+
+		if (!initializer.canonicalName().equals(INITIALIZER))
+		{
+			throw new IllegalStateException("Unexpected initializer " + initializer + ", AotMain expects " + INITIALIZER);
+		}
+		System.out.println("AOT initializer generated: " + initializer);
+	}
+}
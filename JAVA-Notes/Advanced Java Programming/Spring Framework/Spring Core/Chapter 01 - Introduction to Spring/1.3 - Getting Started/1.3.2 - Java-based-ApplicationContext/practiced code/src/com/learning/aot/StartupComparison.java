@@ -0,0 +1,104 @@
+package com.learning.aot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.AotApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.learning.resources.SpringConfigurationFile;
+
+/*
+ * Startup time and heap after refresh: reflective Main vs AotMain.
+ * AOT only pays off on a cold JVM, so every sample is a fresh child JVM on the same classpath;
+ * the parent prints the median of each.
+ *
+ * usage (after `mvn -P aot package`):
+ *   java -cp <classpath> com.learning.aot.StartupComparison [runs]
+ */
+public class StartupComparison
+{
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length == 2 && args[0].equals("--child"))
+		{
+			runChild(args[1]);
+			return;
+		}
+
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		for (String mode : new String[] {"reflective", "aot"})
+		{
+			long[] millis = new long[runs];
+			long[] heap = new long[runs];
+			for (int i = 0; i < runs; i++)
+			{
+				String[] sample = spawnChild(mode).split(" ");
+				millis[i] = Long.parseLong(sample[0]);
+				heap[i] = Long.parseLong(sample[1]);
+			}
+			System.out.printf("%-10s startup (median of %d): %4d ms   heap after refresh: %6d KB%n",
+					mode, runs, median(millis), median(heap) / 1024);
+		}
+	}
+
+	private static String spawnChild(String mode) throws IOException, InterruptedException
+	{
+		String java = ProcessHandle.current().info().command().orElse("java");
+		Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				StartupComparison.class.getName(), "--child", mode)
+				.redirectError(ProcessBuilder.Redirect.INHERIT)
+				.start();
+
+		String last = null;
+		try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream())))
+		{
+			for (String line = out.readLine(); line != null; line = out.readLine())
+			{
+				last = line;
+			}
+		}
+		if (process.waitFor() != 0 || last == null)
+		{
+			throw new IllegalStateException(mode + " run failed");
+		}
+		return last;
+	}
+
+	private static void runChild(String mode)
+	{
+		long start = System.nanoTime();
+		ConfigurableApplicationContext context;
+		if (mode.equals("aot"))
+		{
+			GenericApplicationContext generic = new GenericApplicationContext();
+			AotApplicationContextInitializer.<GenericApplicationContext>forInitializerClasses(AotProcessor.INITIALIZER)
+					.initialize(generic);
+			generic.refresh();
+			context = generic;
+		}
+		else
+		{
+			context = new AnnotationConfigApplicationContext(SpringConfigurationFile.class);
+		}
+		context.getBean("StudID");
+		long millis = (System.nanoTime() - start) / 1_000_000;
+
+		System.gc();
+		long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+		System.out.println(millis + " " + heap);
+		context.close();
+	}
+
+	private static long median(long[] values)
+	{
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+}
@@ -0,0 +1,20 @@
+package com.learning.bootstrap;
+
+import java.util.Locale;
+
+/*
+ * How the container creates its singleton beans during refresh.
+ * Selected with `bootstrap.mode` (system property, environment variable BOOTSTRAP_MODE,
+ * or com/learning/resources/bootstrap.properties).
+ */
+public enum BootstrapMode
+{
+	EAGER,    // Spring's default: every singleton is created during refresh, one after another
+	LAZY,     // singletons are created on their first getBean(..)
+	PARALLEL; // independent singletons are created during refresh on a bounded thread pool
+
+	public static BootstrapMode of(String value)
+	{
+		return valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,33 @@
+package com.learning.main;
+
+import org.springframework.context.aot.AotApplicationContextInitializer;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.learning.aot.AotProcessor;
+import com.learning.beans.Student;
+import com.learning.startup.RecordingApplicationStartup;
+import com.learning.startup.StartupReport;
+
+public class AotMain //Same as Main, but the bean definitions come from code generated at build time
+{
+	public static void main(String[] args)
+	{
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		GenericApplicationContext context = new GenericApplicationContext(); // plain container, no annotation processing
+		context.setApplicationStartup(startup);
+		AotApplicationContextInitializer.<GenericApplicationContext>forInitializerClasses(AotProcessor.INITIALIZER)
+				.initialize(context); // registers StudID exactly as SpringConfigurationFile describes it
+		context.refresh();
+		StartupReport.write("java-config-aot", startup);
+
+		Student stud = (Student) context.getBean("StudID");
+		stud.display();
+	}
+}
+
+/*
+- Build and run:
+	mvn -P aot package
+	mvn -P aot exec:java -Dexec.mainClass=com.learning.main.AotMain
+- The initializer is looked up by name because it only exists after the AOT step has run.
+*/
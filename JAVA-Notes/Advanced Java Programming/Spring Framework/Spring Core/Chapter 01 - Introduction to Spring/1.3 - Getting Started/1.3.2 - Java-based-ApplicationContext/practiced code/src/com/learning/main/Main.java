@@ -1,25 +1,31 @@
 package com.learning.main;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 import com.learning.beans.Student;
 import com.learning.resources.SpringConfigurationFile;
+import com.learning.startup.RecordingApplicationStartup;
+import com.learning.startup.StartupReport;
 
 public class Main //Initialize Spring Container and Access Bean
 {
+	public static void main(String[] args)
+	{
+		RecordingApplicationStartup startup = new RecordingApplicationStartup(); //records where startup time goes
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.setApplicationStartup(startup); //must be set before register/refresh
+		context.register(SpringConfigurationFile.class);
+		context.refresh();
+		StartupReport.write("java-config", startup);
+		// We will not use `ClassPathXmlApplicationContext` since we are not using XML-based config
 	
-	ApplicationContext context = new AnnotationConfigApplicationContext(SpringConfigurationFile.class);
-	// We will not use `ClassPathXmlApplicationContext` since we are not using XML-based config
-
-	Student stud = (Student) context.getBean("StudID"); //We passed the MethodName
-	stud.display();
-	
-	/*Another Technique to Access Bean*/
-	// Student stud = (Student) context.getBean(Student.class);
-	// stud.display();
-	
+		Student stud = (Student) context.getBean("StudID"); //We passed the MethodName
+		stud.display();
+		
+		/*Another Technique to Access Bean*/
+		// Student stud = (Student) context.getBean(Student.class);
+		// stud.display();
+	}
 }
 
 //Note: For Java-Based Configuration, we will need "Spring-AOP" jar/Maven.
\ No newline at end of file
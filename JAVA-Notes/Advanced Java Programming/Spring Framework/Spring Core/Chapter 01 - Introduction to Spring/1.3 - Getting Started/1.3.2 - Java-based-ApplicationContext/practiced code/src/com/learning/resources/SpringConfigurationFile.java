@@ -2,9 +2,13 @@ package com.learning.resources;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 import com.learning.beans.Student;
-@Configuration
+import com.learning.bootstrap.BootstrapModePostProcessor;
+
+@Configuration(proxyBeanMethods = false) //no @Bean method calls another one, so no CGLIB subclass is needed
+@Import(BootstrapModePostProcessor.class) //eager / lazy / parallel singleton creation, see bootstrap.properties
 public class SpringConfigurationFile 
 {
 	@Bean //this annotation in Spring is used to declare a method as factory for Creating and configuring a bean managed by the SpringContainer
@@ -40,4 +44,15 @@ public class SpringConfigurationFile
 4. In Java configuration, the "methodName" becomes the default bean name, 
    and the "return type" of method determines the class of the object 
    that will be created as the bean.
+*/
+
+
+/*
+- `@Configuration` (default: proxyBeanMethods = true) makes Spring generate a CGLIB subclass at runtime,
+  so that calling one @Bean method from another returns the same singleton.
+- `proxyBeanMethods = false` ("lite" mode) skips that subclass: the class is used as a plain factory.
+  It is safe here because StudID() does not call any other @Bean method.
+- With `mvn -P aot package` this class is processed ahead-of-time (see com.learning.aot.AotProcessor)
+  into plain Java code that registers the StudID bean definition, so no annotation parsing or
+  reflection is needed at startup. Run the result with com.learning.main.AotMain.
 */
\ No newline at end of file
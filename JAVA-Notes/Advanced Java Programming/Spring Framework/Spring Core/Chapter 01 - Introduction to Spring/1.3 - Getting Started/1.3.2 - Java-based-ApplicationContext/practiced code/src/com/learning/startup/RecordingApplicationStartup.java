@@ -0,0 +1,150 @@
+package com.learning.startup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/*
+ * Keeps every startup step the container reports (refresh phases, bean creation, component scanning, ...)
+ * together with its start/end time, so StartupReport can show where startup time went.
+ *
+ * Spring's default ApplicationStartup throws the steps away. This is the same idea as Spring Boot's
+ * BufferingApplicationStartup, which is not available here (plain Spring Framework).
+ *
+ * A step's parent is the innermost open step of the thread that starts it, so steps started on another thread
+ * (bootstrap.mode=parallel creates beans on a pool) have none; StartupReport places them by their start time.
+ *
+ * Must be set before refresh():
+ *   context.setApplicationStartup(new RecordingApplicationStartup());
+ */
+public class RecordingApplicationStartup implements ApplicationStartup
+{
+	private final AtomicLong ids = new AtomicLong();
+	private final ThreadLocal<RecordedStep> current = new ThreadLocal<>(); // innermost open step of each thread
+	private final Queue<RecordedStep> finished = new ConcurrentLinkedQueue<>();
+
+	@Override
+	public StartupStep start(String name)
+	{
+		RecordedStep step = new RecordedStep(name, ids.incrementAndGet(), current.get());
+		current.set(step);
+		return step;
+	}
+
+	// Finished steps in the order they started
+	public List<RecordedStep> getSteps()
+	{
+		List<RecordedStep> steps = new ArrayList<>(finished);
+		steps.sort(Comparator.comparingLong(RecordedStep::getStartNanos));
+		return steps;
+	}
+
+	public final class RecordedStep implements StartupStep
+	{
+		private final String name;
+		private final long id;
+		private final RecordedStep parent;
+		private final String threadName = Thread.currentThread().getName();
+		private final long startNanos = System.nanoTime();
+		private final List<Tag> tags = new ArrayList<>(2);
+		private long endNanos;
+
+		private RecordedStep(String name, long id, RecordedStep parent)
+		{
+			this.name = name;
+			this.id = id;
+			this.parent = parent;
+		}
+
+		@Override
+		public String getName()
+		{
+			return name;
+		}
+
+		@Override
+		public long getId()
+		{
+			return id;
+		}
+
+		@Override
+		public Long getParentId()
+		{
+			return parent == null ? null : parent.id;
+		}
+
+		@Override
+		public StartupStep tag(String key, String value)
+		{
+			tags.add(new SimpleTag(key, value));
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value)
+		{
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags()
+		{
+			return tags::iterator;
+		}
+
+		public String getTag(String key)
+		{
+			for (Tag tag : tags)
+			{
+				if (tag.getKey().equals(key))
+				{
+					return tag.getValue();
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public void end()
+		{
+			endNanos = System.nanoTime();
+			if (current.get() == this)
+			{
+				current.set(parent);
+			}
+			finished.add(this);
+		}
+
+		public long getStartNanos()
+		{
+			return startNanos;
+		}
+
+		public long getEndNanos()
+		{
+			return endNanos;
+		}
+
+		public String getThreadName()
+		{
+			return threadName;
+		}
+
+		public long getDurationNanos()
+		{
+			return endNanos - startNanos;
+		}
+	}
+
+	private record SimpleTag(String getKey, String getValue) implements StartupStep.Tag
+	{
+	}
+}
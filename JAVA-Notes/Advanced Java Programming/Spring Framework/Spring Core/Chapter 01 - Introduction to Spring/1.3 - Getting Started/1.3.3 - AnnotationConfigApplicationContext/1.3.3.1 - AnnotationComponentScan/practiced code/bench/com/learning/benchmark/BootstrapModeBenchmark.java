@@ -0,0 +1,106 @@
+package com.learning.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.learning.beans.Student;
+import com.learning.bootstrap.BootstrapMode;
+import com.learning.bootstrap.BootstrapModePostProcessor;
+
+/*
+ * Time-to-first-bean: build a context with `beans` slow-initialising students, refresh it,
+ * and fetch "student" — what Main does — under each BootstrapMode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(2)
+public class BootstrapModeBenchmark
+{
+	@Param({"eager", "lazy", "parallel"})
+	private String mode;
+
+	@Param({"200"})
+	private int beans;
+
+	@Param({"5"})
+	private int initMillis;
+
+	@Param({"8"})
+	private int threads; // initialisation blocks rather than computes, so more threads than cores still helps
+
+	private AnnotationConfigApplicationContext context;
+
+	@Benchmark
+	public Student timeToFirstBean()
+	{
+		context = new AnnotationConfigApplicationContext();
+
+		BootstrapModePostProcessor bootstrap = new BootstrapModePostProcessor();
+		bootstrap.setMode(BootstrapMode.of(mode));
+		bootstrap.setThreads(threads);
+		context.addBeanFactoryPostProcessor(bootstrap);
+
+		context.registerBean("student", Student.class);
+		for (int i = 0; i < beans; i++)
+		{
+			context.registerBean("slowStudent" + i, SlowStudent.class, () -> new SlowStudent(initMillis));
+		}
+		context.refresh();
+		return (Student) context.getBean("student");
+	}
+
+	@TearDown(Level.Invocation)
+	public void close()
+	{
+		if (context != null)
+		{
+			context.close();
+			context = null;
+		}
+	}
+
+	// A Student whose initialisation blocks, like a bean that opens a connection or reads a file
+	public static class SlowStudent extends Student implements InitializingBean
+	{
+		private final int initMillis;
+
+		public SlowStudent(int initMillis)
+		{
+			this.initMillis = initMillis;
+		}
+
+		@Override
+		public void afterPropertiesSet() throws InterruptedException
+		{
+			Thread.sleep(initMillis);
+		}
+	}
+}
+
+/*
+Run:
+	mvn -P benchmark package
+	java -jar target/benchmarks.jar BootstrapModeBenchmark
+	java -jar target/benchmarks.jar BootstrapModeBenchmark -p beans=1000 -p initMillis=2
+
+- eager    ≈ beans × initMillis
+- parallel ≈ beans × initMillis / threads
+- lazy     ≈ only the one bean that is asked for
+*/
@@ -0,0 +1,148 @@
+package com.learning.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+ * Writes the same set of `Student` beans in the three configuration styles of Chapter 01:
+ *   1. XML        → com/learning/bulk/bulkContext.xml            (like 1.3.1 - ClassPathXMLApplicationContext)
+ *   2. @Bean      → com.learning.bulk.config.BulkConfiguration   (like 1.3.2 - Java-based-ApplicationContext)
+ *   3. @Component → com.learning.bulk.scan.ScannedStudentNNNNN   (like 1.3.3.1 - AnnotationComponentScan)
+ *
+ * It has no dependencies, so Maven launches it as a single source file during `generate-sources`
+ * (see the `benchmark` profile in pom.xml):
+ *   java BulkBeanGenerator.java <source-dir> <resource-dir> <bean-count>
+ */
+public class BulkBeanGenerator
+{
+	// @Bean methods are split over several classes so that no single class hits the constant pool limit
+	private static final int BEANS_PER_CONFIGURATION = 1000;
+
+	public static void main(String[] args) throws IOException
+	{
+		Path sources = Path.of(args[0]);
+		Path resources = Path.of(args[1]);
+		int count = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+		writeConstants(sources, count);
+		writeXml(resources, count);
+		writeConfigurations(sources, count);
+		writeScannedComponents(sources, count);
+
+		System.out.println("Generated " + count + " Student beans per configuration style");
+	}
+
+	private static void writeConstants(Path sources, int count) throws IOException
+	{
+		try (Writer out = open(sources.resolve("com/learning/bulk/BulkBeans.java")))
+		{
+			out.write("package com.learning.bulk;\n\n");
+			out.write("public final class BulkBeans\n{\n");
+			out.write("\tpublic static final int COUNT = " + count + ";\n");
+			out.write("\tpublic static final String XML_CONFIG = \"/com/learning/bulk/bulkContext.xml\";\n");
+			out.write("\tpublic static final String SCAN_PACKAGE = \"com.learning.bulk.scan\";\n\n");
+			out.write("\tprivate BulkBeans()\n\t{\n\t}\n}\n");
+		}
+	}
+
+	private static void writeXml(Path resources, int count) throws IOException
+	{
+		try (Writer out = open(resources.resolve("com/learning/bulk/bulkContext.xml")))
+		{
+			out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+			out.write("<beans xmlns=\"http://www.springframework.org/schema/beans\"\n");
+			out.write("       xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n");
+			out.write("       xmlns:context=\"http://www.springframework.org/schema/context\"\n");
+			out.write("       xsi:schemaLocation=\"http://www.springframework.org/schema/beans\n");
+			out.write("                           http://www.springframework.org/schema/beans/spring-beans.xsd\n");
+			out.write("                           http://www.springframework.org/schema/context\n");
+			out.write("                           http://www.springframework.org/schema/context/spring-context.xsd\">\n\n");
+			// Student carries @Value fields, so the XML context gets the same annotation post-processors as the other two styles
+			out.write("\t<context:annotation-config/>\n\n");
+			for (int i = 0; i < count; i++)
+			{
+				out.write("\t<bean class=\"com.learning.beans.Student\" id=\"" + beanName(i) + "\">\n");
+				out.write("\t\t<property name=\"id\" value=\"" + i + "\"/>\n");
+				out.write("\t\t<property name=\"name\" value=\"Student-" + i + "\"/>\n");
+				out.write("\t\t<property name=\"gpa\" value=\"" + gpa(i) + "\"/>\n");
+				out.write("\t</bean>\n");
+			}
+			out.write("\n</beans>\n");
+		}
+	}
+
+	private static void writeConfigurations(Path sources, int count) throws IOException
+	{
+		int parts = (count + BEANS_PER_CONFIGURATION - 1) / BEANS_PER_CONFIGURATION;
+		StringBuilder imports = new StringBuilder();
+
+		for (int part = 0; part < parts; part++)
+		{
+			String className = "BulkConfiguration" + part;
+			imports.append(part == 0 ? "" : ", ").append(className).append(".class");
+
+			try (Writer out = open(sources.resolve("com/learning/bulk/config/" + className + ".java")))
+			{
+				out.write("package com.learning.bulk.config;\n\n");
+				out.write("import org.springframework.context.annotation.Bean;\n");
+				out.write("import org.springframework.context.annotation.Configuration;\n\n");
+				out.write("import com.learning.beans.Student;\n\n");
+				out.write("@Configuration\npublic class " + className + "\n{\n");
+				int end = Math.min(count, (part + 1) * BEANS_PER_CONFIGURATION);
+				for (int i = part * BEANS_PER_CONFIGURATION; i < end; i++)
+				{
+					out.write("\t@Bean\n\tpublic Student " + beanName(i) + "()\n\t{\n");
+					out.write("\t\tStudent obj = new Student();\n");
+					out.write("\t\tobj.setId(" + i + ");\n");
+					out.write("\t\tobj.setName(\"Student-" + i + "\");\n");
+					out.write("\t\tobj.setGpa(" + gpa(i) + ");\n");
+					out.write("\t\treturn obj;\n\t}\n\n");
+				}
+				out.write("}\n");
+			}
+		}
+
+		try (Writer out = open(sources.resolve("com/learning/bulk/config/BulkConfiguration.java")))
+		{
+			out.write("package com.learning.bulk.config;\n\n");
+			out.write("import org.springframework.context.annotation.Configuration;\n");
+			out.write("import org.springframework.context.annotation.Import;\n\n");
+			out.write("@Configuration\n@Import({" + imports + "})\n");
+			out.write("public class BulkConfiguration\n{\n}\n");
+		}
+	}
+
+	private static void writeScannedComponents(Path sources, int count) throws IOException
+	{
+		for (int i = 0; i < count; i++)
+		{
+			String className = "ScannedStudent" + String.format("%05d", i);
+			try (Writer out = open(sources.resolve("com/learning/bulk/scan/" + className + ".java")))
+			{
+				out.write("package com.learning.bulk.scan;\n\n");
+				out.write("import org.springframework.stereotype.Component;\n\n");
+				out.write("import com.learning.beans.Student;\n\n");
+				out.write("@Component\npublic class " + className + " extends Student\n{\n}\n");
+			}
+		}
+	}
+
+	private static String beanName(int i)
+	{
+		return "student" + String.format("%05d", i);
+	}
+
+	private static double gpa(int i)
+	{
+		return (i % 41) / 10.0; // 0.0 .. 4.0
+	}
+
+	private static Writer open(Path file) throws IOException
+	{
+		Files.createDirectories(file.getParent());
+		return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+	}
+}
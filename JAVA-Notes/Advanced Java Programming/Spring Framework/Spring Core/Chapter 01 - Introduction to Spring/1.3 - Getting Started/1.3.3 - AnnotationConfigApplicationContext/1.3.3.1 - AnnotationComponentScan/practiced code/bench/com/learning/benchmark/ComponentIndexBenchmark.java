@@ -0,0 +1,69 @@
+package com.learning.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.learning.bulk.BulkBeans;
+
+/*
+ * @ComponentScan through the compile-time index (META-INF/spring.components)
+ * versus a real classpath scan of the same package.
+ * The index is read once per class loader, so each variant runs in its own forks;
+ * `spring.index.ignore` is read by Spring on class initialisation and makes it fall back to scanning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ComponentIndexBenchmark
+{
+	private AnnotationConfigApplicationContext context;
+
+	@Benchmark
+	@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+	public AnnotationConfigApplicationContext indexedScan()
+	{
+		context = new AnnotationConfigApplicationContext(BulkBeans.SCAN_PACKAGE);
+		return context;
+	}
+
+	@Benchmark
+	@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dspring.index.ignore=true"})
+	public AnnotationConfigApplicationContext classpathScan()
+	{
+		context = new AnnotationConfigApplicationContext(BulkBeans.SCAN_PACKAGE);
+		return context;
+	}
+
+	@TearDown(Level.Invocation)
+	public void close()
+	{
+		if (context != null)
+		{
+			context.close();
+			context = null;
+		}
+	}
+}
+
+/*
+Run with a package of a few hundred components:
+	mvn -P benchmark package -Dbulk.beans=500
+	java -jar target/benchmarks.jar ComponentIndexBenchmark
+
+- Warmup iterations hide most of the one-off cost, so also look at the first measured shot
+  (-wi 0 -i 1 -f 10) — that is what a real application start pays.
+*/
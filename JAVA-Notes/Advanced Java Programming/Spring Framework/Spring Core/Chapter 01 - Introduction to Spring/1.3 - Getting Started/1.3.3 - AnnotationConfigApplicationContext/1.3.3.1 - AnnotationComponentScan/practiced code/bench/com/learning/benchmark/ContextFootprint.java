@@ -0,0 +1,61 @@
+package com.learning.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.Supplier;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+import com.learning.bulk.BulkBeans;
+import com.learning.bulk.config.BulkConfiguration;
+
+/*
+ * Heap retained by a refreshed context, per configuration style.
+ * JMH reports time and allocation (-prof gc) but not what stays alive afterwards,
+ * so this measures used heap after a full GC with and without the context.
+ */
+public class ContextFootprint
+{
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	public static void main(String[] args)
+	{
+		System.out.println("Beans per context: " + BulkBeans.COUNT);
+
+		measure("XML", () -> new ClassPathXmlApplicationContext(BulkBeans.XML_CONFIG));
+		measure("@Configuration", () -> new AnnotationConfigApplicationContext(BulkConfiguration.class));
+		measure("@ComponentScan", () -> new AnnotationConfigApplicationContext(BulkBeans.SCAN_PACKAGE));
+	}
+
+	private static void measure(String style, Supplier<ConfigurableApplicationContext> factory)
+	{
+		// first run loads the classes, so that they are not charged to the context
+		factory.get().close();
+
+		long before = usedHeap();
+		long start = System.nanoTime();
+		ConfigurableApplicationContext context = factory.get();
+		long refreshMillis = (System.nanoTime() - start) / 1_000_000;
+		long after = usedHeap();
+
+		System.out.printf("%-15s refresh: %5d ms   retained heap: %7.2f MB   beans: %d%n",
+				style, refreshMillis, (after - before) / (1024.0 * 1024.0), context.getBeanDefinitionCount());
+		context.close();
+	}
+
+	private static long usedHeap()
+	{
+		for (int i = 0; i < 3; i++)
+		{
+			System.gc();
+		}
+		return MEMORY.getHeapMemoryUsage().getUsed();
+	}
+}
+
+/*
+Run (after `mvn -P benchmark package`):
+	java -Xms2g -Xmx2g -cp target/benchmarks.jar com.learning.benchmark.ContextFootprint
+*/
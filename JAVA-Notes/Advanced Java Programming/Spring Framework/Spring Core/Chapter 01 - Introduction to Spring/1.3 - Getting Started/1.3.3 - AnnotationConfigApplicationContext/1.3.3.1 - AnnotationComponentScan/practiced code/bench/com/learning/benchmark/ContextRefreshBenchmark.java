@@ -0,0 +1,79 @@
+package com.learning.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+
+import com.learning.bulk.BulkBeans;
+import com.learning.bulk.config.BulkConfiguration;
+
+/*
+ * Context refresh time for BulkBeans.COUNT Student beans, once per configuration style.
+ * Every invocation builds a brand new container, so SingleShotTime is the right mode:
+ * the interesting number is "how long does `new XxxApplicationContext(..)` take", not a hot loop.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ContextRefreshBenchmark
+{
+	private ConfigurableApplicationContext context;
+
+	@Benchmark
+	public ConfigurableApplicationContext xmlConfiguration()
+	{
+		context = new ClassPathXmlApplicationContext(BulkBeans.XML_CONFIG);
+		return context;
+	}
+
+	@Benchmark
+	public ConfigurableApplicationContext javaConfiguration()
+	{
+		context = new AnnotationConfigApplicationContext(BulkConfiguration.class);
+		return context;
+	}
+
+	@Benchmark
+	public ConfigurableApplicationContext componentScan()
+	{
+		context = new AnnotationConfigApplicationContext(BulkBeans.SCAN_PACKAGE);
+		return context;
+	}
+
+	@TearDown(Level.Invocation)
+	public void close()
+	{
+		// closing is kept out of the measured time
+		if (context != null)
+		{
+			context.close();
+			context = null;
+		}
+	}
+}
+
+/*
+Run:
+	mvn -P benchmark package
+	java -jar target/benchmarks.jar ContextRefreshBenchmark
+	java -jar target/benchmarks.jar ContextRefreshBenchmark -prof gc   (allocation per refresh)
+
+- The bean count is fixed at build time: mvn -P benchmark package -Dbulk.beans=20000
+- Retained heap after refresh is measured separately by ContextFootprint.
+*/
@@ -0,0 +1,152 @@
+package com.learning.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.learning.beans.Student;
+import com.learning.io.StudentCodec;
+
+/*
+ * Round trip of `students` beans through a file: write them all, read them all back.
+ *   codec        → StudentCodec over a FileChannel
+ *   serializable → ObjectOutputStream / ObjectInputStream (default Java serialization)
+ *
+ * The streams are reset() every RESET_EVERY objects, as any long-running stream has to be:
+ * otherwise they keep a reference to every object ever written/read and run out of heap at 10M.
+ * The file size of each format is printed at the end of the trial.
+ *
+ *   java -jar target/benchmarks.jar StudentCodecBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StudentCodecBenchmark
+{
+	private static final int RESET_EVERY = 10_000;
+
+	@Param({"10000000"})
+	private int students;
+
+	private Path file;
+	private long bytes;
+
+	@Setup(Level.Trial)
+	public void createFile() throws IOException
+	{
+		file = Files.createTempFile("students", ".bin");
+	}
+
+	@TearDown(Level.Trial)
+	public void deleteFile() throws IOException
+	{
+		System.out.printf("%n%,d students → %,d bytes (%.1f bytes/student)%n", students, bytes, (double) bytes / students);
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public long codec() throws IOException
+	{
+		StudentCodec codec = new StudentCodec();
+		try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			bytes = codec.writeAll(() -> generate(new Student()), out);
+		}
+
+		long[] idSum = new long[1];
+		try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			codec.readAll(in, student -> idSum[0] += student.getId());
+		}
+		return check(idSum[0]);
+	}
+
+	@Benchmark
+	public long serializable() throws IOException, ClassNotFoundException
+	{
+		try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)))
+		{
+			Iterator<Student> source = generate(null);
+			for (int i = 0; source.hasNext(); i++)
+			{
+				if (i % RESET_EVERY == 0)
+				{
+					out.reset();
+				}
+				out.writeObject(source.next());
+			}
+		}
+		bytes = Files.size(file);
+
+		long idSum = 0;
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16)))
+		{
+			for (int i = 0; i < students; i++)
+			{
+				idSum += ((Student) in.readObject()).getId();
+			}
+		}
+		return check(idSum);
+	}
+
+	// the codec only reads the fields, so it can fill one flyweight; serialization needs a new object per record
+	private Iterator<Student> generate(Student flyweight)
+	{
+		return new Iterator<>()
+		{
+			private int next;
+
+			@Override
+			public boolean hasNext()
+			{
+				return next < students;
+			}
+
+			@Override
+			public Student next()
+			{
+				Student student = flyweight != null ? flyweight : new Student();
+				student.setId(next);
+				student.setName("Student-" + next);
+				student.setGpa((next % 41) / 10.0);
+				next++;
+				return student;
+			}
+		};
+	}
+
+	private long check(long idSum)
+	{
+		long expected = (long) students * (students - 1) / 2;
+		if (idSum != expected)
+		{
+			throw new IllegalStateException("Round trip lost students: id sum " + idSum + " != " + expected);
+		}
+		return idSum;
+	}
+}
@@ -0,0 +1,101 @@
+package com.learning.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.learning.beans.Student;
+import com.learning.io.StudentRenderer;
+
+/*
+ * Students displayed per second (score = beans/s), both writing to /dev/null so that only the output path
+ * is measured, not a terminal:
+ *   display  → Student.display() on a System.out built like the JVM's own (buffered, auto-flush), plus the
+ *               println() that ends the GPA line, so that both write the same bytes
+ *   renderer → StudentRenderer on a FileChannel
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentDisplayBenchmark
+{
+	private static final int STUDENTS = 10_000;
+	private static final Path NULL_DEVICE = Path.of(System.getProperty("os.name").startsWith("Windows") ? "NUL" : "/dev/null");
+
+	private final List<Student> students = new ArrayList<>();
+	private PrintStream originalOut;
+	private PrintStream nullOut;
+	private FileChannel nullChannel;
+	private StudentRenderer renderer;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		for (int i = 0; i < STUDENTS; i++)
+		{
+			Student student = new Student();
+			student.setId(i);
+			student.setName("Student-" + i);
+			student.setGpa((i % 41) / 10.0);
+			students.add(student);
+		}
+
+		originalOut = System.out;
+		nullOut = new PrintStream(new BufferedOutputStream(new FileOutputStream(NULL_DEVICE.toFile()), 8192), true);
+		System.setOut(nullOut);
+
+		nullChannel = FileChannel.open(NULL_DEVICE, StandardOpenOption.WRITE);
+		renderer = new StudentRenderer(nullChannel);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException
+	{
+		System.setOut(originalOut);
+		nullOut.close();
+		nullChannel.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STUDENTS)
+	public void display()
+	{
+		for (Student student : students)
+		{
+			student.display();
+			System.out.println(); // display() ends without a newline, render() with one
+		}
+		System.out.flush();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(STUDENTS)
+	public void renderer() throws IOException
+	{
+		renderer.renderAll(students).flush();
+	}
+}
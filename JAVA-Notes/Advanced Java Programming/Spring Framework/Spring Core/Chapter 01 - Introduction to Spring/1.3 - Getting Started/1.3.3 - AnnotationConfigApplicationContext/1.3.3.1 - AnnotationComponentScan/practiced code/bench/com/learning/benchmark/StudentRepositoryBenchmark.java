@@ -0,0 +1,132 @@
+package com.learning.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.learning.beans.Student;
+import com.learning.beans.StudentRepository;
+
+/*
+ * StudentRepository (primitive columns + int→row index) against the obvious HashMap<Integer, Student>
+ * holding the same `students`:
+ *   lookup*  → LOOKUPS random ids per invocation, score is per id
+ *   average* → mean GPA of everybody
+ *   topTen*  → ids of the 10 best GPAs
+ *
+ *   java -Xmx4g -jar target/benchmarks.jar StudentRepositoryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StudentRepositoryBenchmark
+{
+	private static final int LOOKUPS = 1024;
+
+	@Param({"1000000"})
+	private int students;
+
+	private StudentRepository repository;
+	private Map<Integer, Student> map;
+	private int[] lookupIds;
+	private final Student flyweight = new Student();
+
+	@Setup(Level.Trial)
+	public void fill()
+	{
+		SplittableRandom random = new SplittableRandom(42);
+		repository = new StudentRepository(students);
+		map = new HashMap<>();
+		for (int i = 0; i < students; i++)
+		{
+			int id = 100_000 + i * 7; // sparse ids, like real student numbers
+			String name = "Student-" + i;
+			double gpa = random.nextInt(401) / 100.0;
+
+			repository.put(id, name, gpa);
+			Student student = new Student();
+			student.setId(id);
+			student.setName(name);
+			student.setGpa(gpa);
+			map.put(id, student);
+		}
+
+		lookupIds = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++)
+		{
+			lookupIds[i] = 100_000 + random.nextInt(students) * 7;
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOOKUPS)
+	public void lookupRepository(Blackhole bh)
+	{
+		for (int id : lookupIds)
+		{
+			bh.consume(repository.view(id, flyweight).getGpa());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LOOKUPS)
+	public void lookupHashMap(Blackhole bh)
+	{
+		for (int id : lookupIds)
+		{
+			bh.consume(map.get(id).getGpa());
+		}
+	}
+
+	@Benchmark
+	public double averageRepository()
+	{
+		return repository.averageGpa();
+	}
+
+	@Benchmark
+	public double averageHashMap()
+	{
+		double sum = 0;
+		for (Student student : map.values())
+		{
+			sum += student.getGpa();
+		}
+		return sum / map.size();
+	}
+
+	@Benchmark
+	public int[] topTenRepository()
+	{
+		return repository.topK(10);
+	}
+
+	@Benchmark
+	public Object topTenHashMap()
+	{
+		return map.values().stream()
+				.sorted((a, b) -> Double.compare(b.getGpa(), a.getGpa()))
+				.limit(10)
+				.mapToInt(Student::getId)
+				.toArray();
+	}
+}
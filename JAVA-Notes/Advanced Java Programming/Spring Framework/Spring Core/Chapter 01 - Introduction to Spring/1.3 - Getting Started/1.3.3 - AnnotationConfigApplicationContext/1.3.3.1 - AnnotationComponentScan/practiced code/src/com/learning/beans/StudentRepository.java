@@ -0,0 +1,289 @@
+package com.learning.beans;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Repository;
+
+/*
+ * Keeps any number of students in three primitive columns instead of one Student object per student:
+ *
+ *   ids   int[]    | 101 | 102 | 103 | ...
+ *   names String[] | ... | ... | ... | ...
+ *   gpas  double[] | 4.0 | 3.2 | 3.7 | ...
+ *
+ * - A row is the position of one student in the columns; `index` maps id → row (open addressing,
+ *   linear probing), so there is no Integer boxing and no Map.Entry object per student.
+ * - GPA aggregates walk one contiguous double[] that the JIT can unroll and vectorise.
+ * - view(id, target) copies a row into a Student the caller reuses (a flyweight), so reads allocate nothing.
+ *
+ * Not thread-safe: fill it first, then share it for reading.
+ */
+@Repository
+public class StudentRepository
+{
+	private static final int DEFAULT_CAPACITY = 1024;
+
+	private int[] ids;
+	private String[] names;
+	private double[] gpas;
+	private int size;
+
+	// id → row + 1 (0 marks an empty slot, so ids can use the whole int range)
+	private int[] indexKeys;
+	private int[] indexRows;
+	private int indexMask;
+
+	public StudentRepository()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	public StudentRepository(int expectedStudents)
+	{
+		int capacity = Math.max(expectedStudents, 16);
+		ids = new int[capacity];
+		names = new String[capacity];
+		gpas = new double[capacity];
+		allocateIndex(tableSizeFor(capacity));
+	}
+
+	// Adds a student, or overwrites the name and GPA if the id is already stored. Returns its row.
+	public int put(int id, String name, double gpa)
+	{
+		int slot = slotOf(id);
+		int row = indexRows[slot] - 1;
+		if (row < 0)
+		{
+			if (size == ids.length)
+			{
+				growColumns();
+			}
+			row = size++;
+			ids[row] = id;
+			indexKeys[slot] = id;
+			indexRows[slot] = row + 1;
+			if (size * 2 > indexKeys.length) // keep the table at most half full, probes stay short
+			{
+				allocateIndex(indexKeys.length * 2);
+				for (int r = 0; r < size; r++)
+				{
+					int s = slotOf(ids[r]);
+					indexKeys[s] = ids[r];
+					indexRows[s] = r + 1;
+				}
+			}
+		}
+		names[row] = name;
+		gpas[row] = gpa;
+		return row;
+	}
+
+	public int put(Student student)
+	{
+		return put(student.getId(), student.getName(), student.getGpa());
+	}
+
+	public boolean contains(int id)
+	{
+		return rowOf(id) >= 0;
+	}
+
+	// Fills `target` with the stored student and returns it, or returns null when the id is unknown
+	public Student view(int id, Student target)
+	{
+		int row = rowOf(id);
+		if (row < 0)
+		{
+			return null;
+		}
+		target.setId(ids[row]);
+		target.setName(names[row]);
+		target.setGpa(gpas[row]);
+		return target;
+	}
+
+	// A new Student, for callers that want to keep it
+	public Student find(int id)
+	{
+		return view(id, new Student());
+	}
+
+	public double gpaOf(int id)
+	{
+		int row = rowOf(id);
+		if (row < 0)
+		{
+			throw new IllegalArgumentException("No student with id " + id);
+		}
+		return gpas[row];
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public double averageGpa()
+	{
+		if (size == 0)
+		{
+			return Double.NaN;
+		}
+		// four independent sums: a single `sum += x` is one long dependency chain the JIT may not reorder
+		double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+		int i = 0;
+		for (; i + 3 < size; i += 4)
+		{
+			s0 += gpas[i];
+			s1 += gpas[i + 1];
+			s2 += gpas[i + 2];
+			s3 += gpas[i + 3];
+		}
+		for (; i < size; i++)
+		{
+			s0 += gpas[i];
+		}
+		return (s0 + s1 + s2 + s3) / size;
+	}
+
+	// Ids of the k students with the highest GPA, best first
+	public int[] topK(int k)
+	{
+		k = Math.min(k, size);
+		if (k <= 0)
+		{
+			return new int[0];
+		}
+		// min-heap of rows: the root is the weakest of the current top k
+		int[] heap = new int[k];
+		int heapSize = 0;
+		for (int row = 0; row < size; row++)
+		{
+			if (heapSize < k)
+			{
+				heap[heapSize] = row;
+				siftUp(heap, heapSize++);
+			}
+			else if (gpas[row] > gpas[heap[0]])
+			{
+				heap[0] = row;
+				siftDown(heap, 0, k);
+			}
+		}
+
+		int[] top = new int[k];
+		for (int i = k - 1; i >= 0; i--) // pop the weakest first, fill from the back
+		{
+			top[i] = ids[heap[0]];
+			heap[0] = heap[i];
+			siftDown(heap, 0, i);
+		}
+		return top;
+	}
+
+	// counts[b] = students with min + b*width <= gpa < min + (b+1)*width; values outside [min, max] go to the end buckets
+	public int[] gpaHistogram(int buckets, double min, double max)
+	{
+		if (buckets <= 0 || !(max > min))
+		{
+			throw new IllegalArgumentException("Need buckets > 0 and max > min");
+		}
+		int[] counts = new int[buckets];
+		double scale = buckets / (max - min);
+		int last = buckets - 1;
+		for (int i = 0; i < size; i++)
+		{
+			int b = (int) ((gpas[i] - min) * scale);
+			counts[Math.max(0, Math.min(last, b))]++;
+		}
+		return counts;
+	}
+
+	private int rowOf(int id)
+	{
+		return indexRows[slotOf(id)] - 1;
+	}
+
+	// slot holding `id`, or the empty slot where it would go
+	private int slotOf(int id)
+	{
+		int slot = mix(id) & indexMask;
+		while (indexRows[slot] != 0 && indexKeys[slot] != id)
+		{
+			slot = (slot + 1) & indexMask;
+		}
+		return slot;
+	}
+
+	// spreads sequential ids (101, 102, ...) over the whole table
+	private static int mix(int id)
+	{
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private void allocateIndex(int tableSize)
+	{
+		indexKeys = new int[tableSize];
+		indexRows = new int[tableSize];
+		indexMask = tableSize - 1;
+	}
+
+	private void growColumns()
+	{
+		int capacity = ids.length * 2;
+		ids = Arrays.copyOf(ids, capacity);
+		names = Arrays.copyOf(names, capacity);
+		gpas = Arrays.copyOf(gpas, capacity);
+	}
+
+	private static int tableSizeFor(int students)
+	{
+		return Integer.highestOneBit(students * 2 - 1) << 1;
+	}
+
+	private void siftUp(int[] heap, int i)
+	{
+		int row = heap[i];
+		while (i > 0)
+		{
+			int parent = (i - 1) >>> 1;
+			if (gpas[heap[parent]] <= gpas[row])
+			{
+				break;
+			}
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		heap[i] = row;
+	}
+
+	private void siftDown(int[] heap, int i, int heapSize)
+	{
+		int row = heap[i];
+		int half = heapSize >>> 1;
+		while (i < half)
+		{
+			int child = 2 * i + 1;
+			if (child + 1 < heapSize && gpas[heap[child + 1]] < gpas[heap[child]])
+			{
+				child++;
+			}
+			if (gpas[row] <= gpas[heap[child]])
+			{
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = row;
+	}
+}
+
+
+/*
+- @Repository is a @Component for classes that store data, so @ComponentScan("com.learning.beans") picks it up
+  as the singleton bean "studentRepository".
+- A HashMap<Integer, Student> needs an Integer, a Map node and a Student per entry (~80 bytes plus the name);
+  here a student costs 4 + 8 bytes of columns, a name reference and two int slots in the index.
+*/
@@ -0,0 +1,239 @@
+package com.learning.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import com.learning.beans.Student;
+
+/*
+ * Hand-written binary format for Student, used instead of java.io.Serializable.
+ *
+ * One record (big-endian, no padding):
+ *
+ *   | id : int (4) | gpa : double (8) | name length : int (4) | name : UTF-8 bytes (length) |
+ *
+ * A name length of -1 stands for a null name. A file is just records one after another.
+ *
+ * - No class descriptors, field names or reflection: a student costs 16 bytes + its name.
+ * - Batches go through one reusable ByteBuffer, which is flushed to the channel only when full.
+ *
+ * Not thread-safe: use one codec per thread.
+ */
+public class StudentCodec
+{
+	public static final int HEADER_BYTES = Integer.BYTES + Double.BYTES + Integer.BYTES;
+	private static final int NULL_NAME = -1;
+	private static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+	private ByteBuffer buffer;
+	private byte[] nameBytes = new byte[64];
+
+	public StudentCodec()
+	{
+		this(DEFAULT_BUFFER_BYTES);
+	}
+
+	public StudentCodec(int bufferBytes)
+	{
+		buffer = ByteBuffer.allocate(Math.max(bufferBytes, 256));
+	}
+
+	// ---- single record -----------------------------------------------------------------
+
+	// Writes one record, or returns false (buffer unchanged) when it does not fit in `out`
+	public boolean encode(Student student, ByteBuffer out)
+	{
+		String name = student.getName();
+		int nameLength = name == null ? NULL_NAME : encodeName(name);
+		if (out.remaining() < HEADER_BYTES + Math.max(nameLength, 0))
+		{
+			return false;
+		}
+		out.putInt(student.getId());
+		out.putDouble(student.getGpa());
+		out.putInt(nameLength);
+		if (nameLength > 0)
+		{
+			out.put(nameBytes, 0, nameLength);
+		}
+		return true;
+	}
+
+	// Reads one record into `target`; throws BufferUnderflowException (position unchanged) on a partial record
+	public Student decode(ByteBuffer in, Student target)
+	{
+		int start = in.position();
+		if (in.remaining() < HEADER_BYTES)
+		{
+			throw new BufferUnderflowException();
+		}
+		int id = in.getInt();
+		double gpa = in.getDouble();
+		int nameLength = in.getInt();
+		if (nameLength < NULL_NAME)
+		{
+			in.position(start);
+			throw new IllegalArgumentException("Corrupt student record: name length " + nameLength);
+		}
+		if (in.remaining() < Math.max(nameLength, 0))
+		{
+			in.position(start);
+			throw new BufferUnderflowException();
+		}
+
+		String name = null;
+		if (nameLength >= 0)
+		{
+			if (in.hasArray())
+			{
+				name = new String(in.array(), in.arrayOffset() + in.position(), nameLength, StandardCharsets.UTF_8);
+				in.position(in.position() + nameLength);
+			}
+			else
+			{
+				ensureNameCapacity(nameLength);
+				in.get(nameBytes, 0, nameLength);
+				name = new String(nameBytes, 0, nameLength, StandardCharsets.UTF_8);
+			}
+		}
+
+		target.setId(id);
+		target.setGpa(gpa);
+		target.setName(name);
+		return target;
+	}
+
+	// ---- batches over a channel (FileChannel, socket, ...) ---------------------------------
+
+	// Writes every student and returns the number of bytes written
+	public long writeAll(Iterable<? extends Student> students, WritableByteChannel channel) throws IOException
+	{
+		long written = 0;
+		buffer.clear();
+		for (Student student : students)
+		{
+			while (!encode(student, buffer))
+			{
+				if (buffer.position() == 0)
+				{
+					buffer = ByteBuffer.allocate(buffer.capacity() * 2); // a single record larger than the buffer
+				}
+				else
+				{
+					written += flush(channel);
+				}
+			}
+		}
+		return written + flush(channel);
+	}
+
+	/*
+	 * Reads records until end of stream and hands each one to `action`.
+	 * The same Student instance is passed every time (a flyweight): copy it if you need to keep it.
+	 * Returns the number of records read.
+	 */
+	public long readAll(ReadableByteChannel channel, Consumer<? super Student> action) throws IOException
+	{
+		Student flyweight = new Student();
+		long count = 0;
+		buffer.clear();
+		while (channel.read(buffer) >= 0 || buffer.position() > 0)
+		{
+			buffer.flip();
+			boolean progress = false;
+			while (buffer.hasRemaining())
+			{
+				try
+				{
+					action.accept(decode(buffer, flyweight));
+					count++;
+					progress = true;
+				}
+				catch (BufferUnderflowException partial)
+				{
+					break;
+				}
+			}
+			boolean truncated = buffer.hasRemaining() && !progress;
+			buffer.compact();
+
+			if (truncated)
+			{
+				if (buffer.position() < buffer.capacity())
+				{
+					// the rest of the record has not arrived yet, unless the channel is at its end
+					if (channel.read(buffer) < 0)
+					{
+						throw new EOFException("Truncated student record at end of stream");
+					}
+				}
+				else
+				{
+					// one record longer than the whole buffer
+					ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+					buffer.flip();
+					larger.put(buffer);
+					buffer = larger;
+				}
+			}
+		}
+		return count;
+	}
+
+	private long flush(WritableByteChannel channel) throws IOException
+	{
+		buffer.flip();
+		long bytes = buffer.remaining();
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+		buffer.clear();
+		return bytes;
+	}
+
+	// UTF-8 bytes of `name` into nameBytes; ASCII names (the usual case) skip the charset encoder
+	private int encodeName(String name)
+	{
+		int length = name.length();
+		ensureNameCapacity(length);
+		for (int i = 0; i < length; i++)
+		{
+			char c = name.charAt(i);
+			if (c >= 0x80)
+			{
+				byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+				ensureNameCapacity(utf8.length);
+				System.arraycopy(utf8, 0, nameBytes, 0, utf8.length);
+				return utf8.length;
+			}
+			nameBytes[i] = (byte) c;
+		}
+		return length;
+	}
+
+	private void ensureNameCapacity(int length)
+	{
+		if (nameBytes.length < length)
+		{
+			nameBytes = new byte[Math.max(length, nameBytes.length * 2)];
+		}
+	}
+}
+
+
+/*
+- java.io.Serializable writes the class name, every field name and type, and goes through reflection
+  for every object; StudentCodec writes only the three values.
+- Example:
+	try (FileChannel channel = FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING))
+	{
+		new StudentCodec().writeAll(students, channel);
+	}
+*/
@@ -0,0 +1,172 @@
+package com.learning.io;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+import com.learning.beans.Student;
+
+/*
+ * Prints many students in the same format as Student.display(), but in bulk:
+ *
+ *   ID: 101
+ *   Name: ChuChu
+ *   GPA: 4.0
+ *
+ * One difference: every student ends with a newline after the GPA. display() leaves the line open
+ * (print, not println), so two students in a row would run together ("GPA: 4.0ID: 102"); the output here
+ * is what display() followed by System.out.println() prints.
+ *
+ * display() makes three System.out calls per student, and every one of them takes the PrintStream
+ * lock and (System.out auto-flushes) ends in a write system call. Here the students are formatted into
+ * one reusable StringBuilder, encoded into one reusable ByteBuffer, and written with a single
+ * channel write once about `bufferBytes` have piled up.
+ *
+ * Not thread-safe. Call flush() (or close the channel yourself after flush()) when done.
+ */
+public class StudentRenderer implements Flushable
+{
+	private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+	private final WritableByteChannel out;
+	private final StringBuilder text;
+	private final ByteBuffer bytes;
+	private final int flushAt;
+	private CharsetEncoder encoder; // only needed for non-ASCII names
+
+	public StudentRenderer(WritableByteChannel out)
+	{
+		this(out, DEFAULT_BUFFER_BYTES);
+	}
+
+	public StudentRenderer(WritableByteChannel out, int bufferBytes)
+	{
+		this.out = out;
+		this.flushAt = Math.max(bufferBytes, 256);
+		this.text = new StringBuilder(flushAt + 256);
+		this.bytes = ByteBuffer.allocateDirect(flushAt);
+	}
+
+	// A renderer on the process' standard output that bypasses System.out (and its lock)
+	public static StudentRenderer toStandardOutput()
+	{
+		return new StudentRenderer(Channels.newChannel(new FileOutputStream(FileDescriptor.out)));
+	}
+
+	public StudentRenderer render(Student student) throws IOException
+	{
+		text.append("ID: ").append(student.getId())
+			.append("\nName: ").append(student.getName())
+			.append("\nGPA: ").append(student.getGpa())
+			.append('\n');
+		if (text.length() >= flushAt)
+		{
+			writeText();
+		}
+		return this;
+	}
+
+	public StudentRenderer renderAll(Iterable<? extends Student> students) throws IOException
+	{
+		for (Student student : students)
+		{
+			render(student);
+		}
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException
+	{
+		writeText();
+	}
+
+	// text → bytes → channel, one write per full ByteBuffer
+	private void writeText() throws IOException
+	{
+		int length = text.length();
+		int i = 0;
+		while (i < length)
+		{
+			// ASCII fast path: a char is its own byte
+			while (i < length && bytes.hasRemaining())
+			{
+				char c = text.charAt(i);
+				if (c >= 0x80)
+				{
+					break;
+				}
+				bytes.put((byte) c);
+				i++;
+			}
+			if (i < length && bytes.hasRemaining())
+			{
+				int next = encodeNonAscii(i, length);
+				if (next == i)
+				{
+					drain(); // no room left for the next multi-byte char
+				}
+				i = next;
+			}
+			if (!bytes.hasRemaining())
+			{
+				drain();
+			}
+		}
+		drain();
+		text.setLength(0);
+	}
+
+	// encodes from `start` up to the next ASCII char (or as much as fits) with a real UTF-8 encoder
+	private int encodeNonAscii(int start, int length)
+	{
+		int end = start;
+		while (end < length && text.charAt(end) >= 0x80)
+		{
+			end++;
+		}
+		if (encoder == null)
+		{
+			encoder = StandardCharsets.UTF_8.newEncoder();
+		}
+		CharBuffer chars = CharBuffer.wrap(text, start, end);
+		CoderResult result = encoder.reset().encode(chars, bytes, true);
+		if (result.isError())
+		{
+			// unpaired surrogate: print '?' like System.out does
+			if (!bytes.hasRemaining())
+			{
+				return chars.position();
+			}
+			bytes.put((byte) '?');
+			return chars.position() + result.length();
+		}
+		return chars.position();
+	}
+
+	private void drain() throws IOException
+	{
+		bytes.flip();
+		while (bytes.hasRemaining())
+		{
+			out.write(bytes);
+		}
+		bytes.clear();
+	}
+}
+
+
+/*
+- Example, printing every student with one system call per 64 KB instead of three per student:
+	StudentRenderer renderer = StudentRenderer.toStandardOutput();
+	renderer.renderAll(students).flush();
+- Do not mix it with System.out on the same stream without flushing both: they have separate buffers.
+*/
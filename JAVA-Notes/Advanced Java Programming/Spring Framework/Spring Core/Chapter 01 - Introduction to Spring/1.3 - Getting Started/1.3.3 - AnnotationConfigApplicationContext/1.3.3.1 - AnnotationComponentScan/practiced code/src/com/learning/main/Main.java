@@ -1,18 +1,26 @@
 package com.learning.main;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import com.learning.beans.Student;
 import com.learning.resources.SpringConfigurationFile;
+import com.learning.startup.RecordingApplicationStartup;
+import com.learning.startup.StartupReport;
 
 public class Main 
 {
 	public static void main(String[] args) 
 	{
-		ApplicationContext context = new AnnotationConfigApplicationContext(SpringConfigurationFile.class);
+		// Same as `new AnnotationConfigApplicationContext(SpringConfigurationFile.class)`, split in steps so
+		// that startup can be recorded: the ApplicationStartup must be set before register/refresh
+		RecordingApplicationStartup startup = new RecordingApplicationStartup();
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.setApplicationStartup(startup);
+		context.register(SpringConfigurationFile.class);
+		context.refresh();
+		StartupReport.write("annotation-scan", startup);
 		
 		Student obj = (Student) context.getBean("student");
 		obj.display();
 	}
-}
\ No newline at end of file
+}
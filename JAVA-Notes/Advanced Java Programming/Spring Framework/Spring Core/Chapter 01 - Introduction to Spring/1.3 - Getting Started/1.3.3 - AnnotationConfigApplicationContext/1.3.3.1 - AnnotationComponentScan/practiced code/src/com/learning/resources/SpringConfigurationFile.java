@@ -2,10 +2,23 @@ package com.learning.resources;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import com.learning.bootstrap.BootstrapModePostProcessor;
 
 @Configuration
 @ComponentScan("com.learning.beans")
+@Import(BootstrapModePostProcessor.class) //eager / lazy / parallel singleton creation, see bootstrap.properties
 public class SpringConfigurationFile 	
 {
 	
-}
\ No newline at end of file
+}
+
+
+/*
+- At compile time `spring-context-indexer` (see pom.xml) lists every @Component class in
+  META-INF/spring.components.
+- When that file is on the classpath, @ComponentScan looks the package up in the index
+  instead of reading every .class file under com/learning/beans.
+- Run with -Dspring.index.ignore=true to force the old classpath scan.
+*/
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.learning.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.learning.beans.Student;
+import com.learning.resources.StudentPropertiesConfiguration;
+import com.learning.scope.PooledStudentScope;
+
+/*
+ * getBean(..) latency for a Student that is used and then dropped:
+ *   prototype → getBean("prototypeStudent"), the object becomes garbage
+ *   pooled    → getBean("pooledStudent") + release(..), the object is reset and reused
+ *
+ * Run with the GC profiler to see the allocation rate as well (gc.alloc.rate.norm = bytes per getBean):
+ *   java -jar target/benchmarks.jar PooledScopeBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PooledScopeBenchmark
+{
+	private AnnotationConfigApplicationContext context;
+	private PooledStudentScope scope;
+
+	@Setup(Level.Trial)
+	public void createContext()
+	{
+		context = new AnnotationConfigApplicationContext(StudentPropertiesConfiguration.class);
+		scope = context.getBean(PooledStudentScope.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeContext()
+	{
+		context.close();
+	}
+
+	@Benchmark
+	public int prototype()
+	{
+		Student student = context.getBean("prototypeStudent", Student.class);
+		return student.getId();
+	}
+
+	@Benchmark
+	public int pooled()
+	{
+		Student student = context.getBean("pooledStudent", Student.class);
+		int id = student.getId();
+		scope.release(student);
+		return id;
+	}
+}
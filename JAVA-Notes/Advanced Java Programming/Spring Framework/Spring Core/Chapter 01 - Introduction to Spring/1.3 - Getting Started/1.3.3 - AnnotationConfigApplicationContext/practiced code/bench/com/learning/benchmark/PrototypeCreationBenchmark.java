@@ -0,0 +1,73 @@
+package com.learning.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import com.learning.beans.Student;
+import com.learning.resources.StudentPropertiesConfiguration;
+
+/*
+ * How many prototype `Student` beans per second the container can hand out:
+ *   standard → Spring resolves the three @Value placeholders (and converts them) on every getBean(..)
+ *   cached   → CachedValueInjectionPostProcessor resolves them once and copies the values in
+ *
+ *   mvn -P benchmark package
+ *   java -jar target/benchmarks.jar PrototypeCreationBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrototypeCreationBenchmark
+{
+	@Param({ "standard", "cached" })
+	public String injection;
+
+	private AnnotationConfigApplicationContext context;
+
+	@Setup(Level.Trial)
+	public void createContext()
+	{
+		context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+				Map.of("student.value-cache.enabled", String.valueOf(injection.equals("cached")))));
+		context.register(StudentPropertiesConfiguration.class);
+		context.refresh();
+
+		Student check = context.getBean("prototypeStudent", Student.class);
+		if (check.getId() != 101 || !"Chupuf".equals(check.getName()) || check.getGpa() != 3.5)
+		{
+			throw new IllegalStateException("prototypeStudent was not injected from student.properties");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void closeContext()
+	{
+		context.close();
+	}
+
+	@Benchmark
+	public Student createPrototype()
+	{
+		return context.getBean("prototypeStudent", Student.class);
+	}
+}
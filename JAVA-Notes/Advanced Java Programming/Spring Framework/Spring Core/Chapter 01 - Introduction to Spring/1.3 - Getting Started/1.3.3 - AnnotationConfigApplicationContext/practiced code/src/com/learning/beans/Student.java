@@ -15,13 +15,13 @@ import org.springframework.stereotype.Component;
 public class Student implements Serializable {
 
 	
-	@Value("101")
+	@Value("${student.id:101}")
     private int id;
 	
-	@Value("Chupuf")
+	@Value("${student.name:Chupuf}")
     private String name;
 	
-	@Value("3.50f")
+	@Value("${student.gpa:3.50f}")
     private double gpa;
 
 
@@ -82,4 +82,12 @@ public class Student implements Serializable {
 /*
 - The @Value() annotation in Spring is used to inject values into Spring bean fields or methods.
 - @Value is mostly used to inject values form external sources (eg. properties files or environment variables)
+*/
+
+
+/*
+- `${student.id:101}` is a placeholder: the value comes from a property source (student.properties,
+  system properties, environment variables) and falls back to what follows the `:` when it is missing.
+- The XML context has no @PropertySource, so it gets the defaults; StudentPropertiesConfiguration
+  loads student.properties through @PropertySource.
 */
\ No newline at end of file
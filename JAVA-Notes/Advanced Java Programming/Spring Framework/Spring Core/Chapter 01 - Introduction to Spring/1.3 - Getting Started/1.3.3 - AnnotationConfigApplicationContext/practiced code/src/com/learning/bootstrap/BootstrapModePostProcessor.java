@@ -0,0 +1,124 @@
+package com.learning.bootstrap;
+
+import java.io.IOException;
+import java.util.Properties;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/*
+ * Applies the configured BootstrapMode to every application bean definition before any bean is created.
+ *   - LAZY     → lazy-init = true
+ *   - PARALLEL → background-init = true for singletons without declared dependencies, plus a bounded
+ *                "bootstrapExecutor" pool; refresh still waits until all of them are created
+ */
+public class BootstrapModePostProcessor implements BeanDefinitionRegistryPostProcessor, EnvironmentAware
+{
+	public static final String MODE_PROPERTY = "bootstrap.mode";
+	public static final String THREADS_PROPERTY = "bootstrap.threads";
+	private static final String DEFAULTS = "com/learning/resources/bootstrap.properties";
+
+	private BootstrapMode mode;
+	private int threads;
+
+	public void setMode(BootstrapMode mode)
+	{
+		this.mode = mode;
+	}
+
+	public void setThreads(int threads)
+	{
+		this.threads = threads;
+	}
+
+	@Override
+	public void setEnvironment(Environment environment)
+	{
+		// explicit setters win, then -D / environment, then bootstrap.properties
+		Properties defaults = loadDefaults();
+		if (mode == null)
+		{
+			mode = BootstrapMode.of(environment.getProperty(MODE_PROPERTY, defaults.getProperty(MODE_PROPERTY, "eager")));
+		}
+		if (threads <= 0)
+		{
+			threads = Integer.parseInt(environment.getProperty(THREADS_PROPERTY, defaults.getProperty(THREADS_PROPERTY, "0")));
+		}
+	}
+
+	@Override
+	public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException
+	{
+		if (mode() != BootstrapMode.PARALLEL
+				|| registry.containsBeanDefinition(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME))
+		{
+			return;
+		}
+
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		RootBeanDefinition executor = new RootBeanDefinition(ThreadPoolTaskExecutor.class);
+		executor.getPropertyValues()
+				.add("corePoolSize", poolSize)
+				.add("maxPoolSize", poolSize)
+				.add("threadNamePrefix", "bootstrap-")
+				.add("daemon", true); // the sample Mains never close their context
+		executor.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+		registry.registerBeanDefinition(ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME, executor);
+	}
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException
+	{
+		if (mode() == BootstrapMode.EAGER)
+		{
+			return;
+		}
+
+		for (String name : beanFactory.getBeanDefinitionNames())
+		{
+			if (!(beanFactory.getBeanDefinition(name) instanceof AbstractBeanDefinition definition)
+					|| definition.getRole() != BeanDefinition.ROLE_APPLICATION
+					|| !definition.isSingleton() || definition.isAbstract())
+			{
+				continue;
+			}
+
+			if (mode() == BootstrapMode.LAZY)
+			{
+				definition.setLazyInit(true); // XML and scanned definitions always carry an explicit lazy-init=false
+			}
+			else if (!definition.isLazyInit() && definition.getDependsOn() == null
+					&& !definition.hasConstructorArgumentValues())
+			{
+				definition.setBackgroundInit(true);
+			}
+		}
+	}
+
+	private BootstrapMode mode()
+	{
+		return mode != null ? mode : BootstrapMode.EAGER;
+	}
+
+	private static Properties loadDefaults()
+	{
+		try
+		{
+			return PropertiesLoaderUtils.loadAllProperties(DEFAULTS, BootstrapModePostProcessor.class.getClassLoader());
+		}
+		catch (IOException ex)
+		{
+			return new Properties();
+		}
+	}
+}
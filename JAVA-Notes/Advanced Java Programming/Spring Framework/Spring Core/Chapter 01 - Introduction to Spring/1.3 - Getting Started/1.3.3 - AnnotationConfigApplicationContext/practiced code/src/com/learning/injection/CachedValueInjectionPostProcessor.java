@@ -0,0 +1,174 @@
+package com.learning.injection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+/*
+ * Resolves the @Value fields of a prototype bean class once and reuses the result for every new instance.
+ *
+ * Normally each getBean(..) of a prototype runs the full @Value path again: placeholder resolution,
+ * SpEL evaluation and type conversion (e.g. "3.50f" → double). Here that path runs once per class,
+ * through the same resolveDependency(..) call Spring uses, and new instances just get the cached values.
+ *
+ * Only applied when it cannot change behaviour: prototype beans, no XML property values, and a class whose
+ * only injection points are @Value fields of simple (immutable) types. Everything else is left to Spring.
+ * The values are fixed for the life of the context, like they would be for a singleton.
+ */
+public class CachedValueInjectionPostProcessor
+		implements InstantiationAwareBeanPostProcessor, MergedBeanDefinitionPostProcessor, BeanFactoryAware
+{
+	private static final Set<String> OTHER_INJECTION_ANNOTATIONS = Set.of(
+			Autowired.class.getName(), "jakarta.inject.Inject", "jakarta.annotation.Resource");
+
+	private final boolean enabled;
+	private final Map<Class<?>, ValueInjector> injectors = new ConcurrentHashMap<>();
+	private final Map<String, ValueInjector> cachedBeans = new ConcurrentHashMap<>();
+	private AutowireCapableBeanFactory beanFactory;
+
+	public CachedValueInjectionPostProcessor(boolean enabled)
+	{
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory)
+	{
+		this.beanFactory = (AutowireCapableBeanFactory) beanFactory;
+	}
+
+	@Override
+	public void postProcessMergedBeanDefinition(RootBeanDefinition definition, Class<?> beanType, String beanName)
+	{
+		// called once per bean definition, before its first instance is populated
+		if (!enabled || !definition.isPrototype() || definition.hasPropertyValues())
+		{
+			return;
+		}
+		ValueInjector injector = injectors.computeIfAbsent(beanType, ValueInjector::inspect);
+		if (injector != ValueInjector.NOT_CACHEABLE)
+		{
+			cachedBeans.put(beanName, injector);
+		}
+	}
+
+	@Override
+	public boolean postProcessAfterInstantiation(Object bean, String beanName) throws BeansException
+	{
+		ValueInjector injector = cachedBeans.get(beanName);
+		if (injector == null)
+		{
+			return true; // standard Spring injection
+		}
+		injector.inject(bean, beanFactory);
+		return false; // values are set: skip the rest of property population for this instance
+	}
+
+	@Override
+	public void resetBeanDefinition(String beanName)
+	{
+		cachedBeans.remove(beanName);
+	}
+
+	// The @Value fields of one class and, after the first instance, their resolved values
+	private static final class ValueInjector
+	{
+		static final ValueInjector NOT_CACHEABLE = new ValueInjector(List.of());
+
+		private final List<Field> fields;
+		private volatile Object[] values;
+
+		private ValueInjector(List<Field> fields)
+		{
+			this.fields = fields;
+		}
+
+		static ValueInjector inspect(Class<?> type)
+		{
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+			{
+				for (Method method : current.getDeclaredMethods())
+				{
+					if (method.isAnnotationPresent(Value.class) || hasOtherInjection(method.getAnnotations()))
+					{
+						return NOT_CACHEABLE;
+					}
+				}
+				for (Field field : current.getDeclaredFields())
+				{
+					if (hasOtherInjection(field.getAnnotations()))
+					{
+						return NOT_CACHEABLE;
+					}
+					if (field.isAnnotationPresent(Value.class) && !Modifier.isStatic(field.getModifiers()))
+					{
+						if (!BeanUtils.isSimpleValueType(field.getType()))
+						{
+							return NOT_CACHEABLE; // a shared mutable value would leak between instances
+						}
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			return new ValueInjector(fields);
+		}
+
+		void inject(Object bean, AutowireCapableBeanFactory beanFactory)
+		{
+			Object[] resolved = values;
+			if (resolved == null)
+			{
+				resolved = new Object[fields.size()];
+				for (int i = 0; i < resolved.length; i++)
+				{
+					resolved[i] = beanFactory.resolveDependency(new DependencyDescriptor(fields.get(i), true), null);
+				}
+				values = resolved;
+			}
+
+			try
+			{
+				for (int i = 0; i < resolved.length; i++)
+				{
+					fields.get(i).set(bean, resolved[i]);
+				}
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException("Cannot inject @Value field of " + bean.getClass().getName(), ex);
+			}
+		}
+
+		private static boolean hasOtherInjection(Annotation[] annotations)
+		{
+			for (Annotation annotation : annotations)
+			{
+				if (OTHER_INJECTION_ANNOTATIONS.contains(annotation.annotationType().getName()))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
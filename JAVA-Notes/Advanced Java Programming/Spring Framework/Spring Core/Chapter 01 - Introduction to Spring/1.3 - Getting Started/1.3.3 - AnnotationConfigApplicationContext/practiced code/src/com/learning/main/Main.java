@@ -1,16 +1,21 @@
 package com.learning.main;
 
-import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 
 import com.learning.beans.Student;
+import com.learning.startup.RecordingApplicationStartup;
+import com.learning.startup.StartupReport;
 
 public class Main 
 {
 	public static void main(String[] args)
 	{
 		String resource = "/com/learning/resources/applicationContext.xml";
-		ApplicationContext context = new ClassPathXmlApplicationContext(resource);
+		RecordingApplicationStartup startup = new RecordingApplicationStartup(); //records where startup time goes
+		ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext(new String[] {resource}, false, null);
+		context.setApplicationStartup(startup); //must be set before refresh()
+		context.refresh();
+		StartupReport.write("xml-scan", startup);
 		
 		Student obj =  (Student) context.getBean("student");
 		obj.display();
@@ -0,0 +1,37 @@
+package com.learning.main;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.learning.beans.Student;
+import com.learning.resources.StudentPropertiesConfiguration;
+import com.learning.scope.PooledStudentScope;
+
+public class PooledScopeMain
+{
+	public static void main(String[] args)
+	{
+		System.setProperty("student.pool.leak-threshold-ms", "1"); // so that the forgotten bean below is reported
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(StudentPropertiesConfiguration.class))
+		{
+			PooledStudentScope scope = context.getBean(PooledStudentScope.class);
+
+			Student first = context.getBean("pooledStudent", Student.class);
+			first.setName("Changed");
+			scope.release(first);
+
+			Student second = context.getBean("pooledStudent", Student.class);
+			second.display();
+			System.out.println("\nSame object? " + (first == second)); // true: reused, and reset to student.properties
+			scope.release(second);
+
+			context.getBean("pooledStudent", Student.class); // never released → reported as a leak on close
+			System.out.println(scope.statistics());
+		}
+	}
+}
+
+/*
+* Note: Every getBean("pooledStudent") must be paired with scope.release(bean) once the bean is no longer used,
+  just like a connection from a connection pool.
+*/
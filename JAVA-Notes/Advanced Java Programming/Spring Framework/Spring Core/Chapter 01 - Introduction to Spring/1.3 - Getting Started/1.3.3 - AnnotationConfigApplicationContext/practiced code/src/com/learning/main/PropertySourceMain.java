@@ -0,0 +1,26 @@
+package com.learning.main;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.learning.beans.Student;
+import com.learning.resources.StudentPropertiesConfiguration;
+
+public class PropertySourceMain
+{
+	public static void main(String[] args)
+	{
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(StudentPropertiesConfiguration.class))
+		{
+			Student first = context.getBean("prototypeStudent", Student.class);
+			Student second = context.getBean("prototypeStudent", Student.class);
+
+			first.display();
+			System.out.println("\nSame object? " + (first == second));
+		}
+	}
+}
+
+/*
+* Note: The values printed come from student.properties, e.g. run with -Dstudent.name=Lulu to override
+  the file (system properties are searched before @PropertySource files).
+*/
@@ -0,0 +1,63 @@
+package com.learning.resources;
+
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.env.Environment;
+
+import com.learning.beans.Student;
+import com.learning.injection.CachedValueInjectionPostProcessor;
+import com.learning.scope.PooledStudentScope;
+
+@Configuration(proxyBeanMethods = false)
+@PropertySource("classpath:/com/learning/resources/student.properties")
+@ComponentScan("com.learning.beans")
+public class StudentPropertiesConfiguration
+{
+	// static: post-processors are created before the configuration class itself
+	@Bean
+	public static CachedValueInjectionPostProcessor cachedValueInjectionPostProcessor(Environment environment)
+	{
+		return new CachedValueInjectionPostProcessor(
+				environment.getProperty("student.value-cache.enabled", Boolean.class, true));
+	}
+
+	// registers the "pooled" scope, so it is static too
+	@Bean
+	public static PooledStudentScope pooledStudentScope(Environment environment)
+	{
+		return new PooledStudentScope(
+				environment.getProperty("student.pool.size", Integer.class, 64),
+				environment.getProperty("student.pool.leak-threshold-ms", Long.class, 10_000L));
+	}
+
+	// a new Student for every getBean("prototypeStudent"), filled from student.properties through its @Value fields
+	@Bean
+	@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+	public Student prototypeStudent()
+	{
+		return new Student();
+	}
+
+	// like prototypeStudent, but objects given back with PooledStudentScope.release(..) are reused
+	@Bean
+	@Scope(PooledStudentScope.SCOPE_NAME)
+	public Student pooledStudent()
+	{
+		return new Student();
+	}
+}
+
+
+/*
+- @PropertySource adds student.properties to the Environment, so `${student.name}` in Student is read from that file.
+- With a prototype bean every getBean(..) builds a new object and, by default, resolves every @Value again
+  (placeholder lookup → SpEL → String-to-int/double conversion).
+- CachedValueInjectionPostProcessor does that work once per class and copies the result into each new instance.
+  Set student.value-cache.enabled=false to get the standard behaviour back.
+- pooledStudent goes one step further and skips creation altogether for released objects
+  (see PooledScopeMain).
+*/
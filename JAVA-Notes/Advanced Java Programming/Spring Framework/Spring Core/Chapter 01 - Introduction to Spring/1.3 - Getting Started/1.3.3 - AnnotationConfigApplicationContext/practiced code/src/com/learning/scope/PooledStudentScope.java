@@ -0,0 +1,274 @@
+package com.learning.scope;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.Scope;
+import org.springframework.util.ReflectionUtils;
+
+/*
+ * The "pooled" scope: like prototype, every getBean(..) hands out an object nobody else is using,
+ * but objects given back with release(..) are reset and reused instead of being built again
+ * (constructor, @Value injection, post-processors).
+ *
+ *   Student s = context.getBean("pooledStudent", Student.class);
+ *   ...
+ *   scope.release(s);   // back to the values it was created with, ready for the next getBean(..)
+ *
+ * - Reset: the first instance Spring builds for a bean is kept aside as a template; a released object gets
+ *   the template's fields copied back (a shallow copy, fine for beans holding values like Student).
+ * - Pool size: at most `maxIdle` released objects are kept per bean, extra ones are left to the GC.
+ * - Leak detection: every borrowed object is tracked with the time it was handed out; findLeaks() lists
+ *   the ones out for longer than `leakThresholdMillis`, and they are reported when the context closes.
+ *   The tracking holds the objects weakly, so a bean dropped without release(..) is still garbage-collected;
+ *   it is then counted as `lost` (also reported on close) instead of being kept alive by the scope.
+ *
+ * Registers itself under SCOPE_NAME when declared as a bean (it is a BeanFactoryPostProcessor).
+ * Destruction callbacks are not supported, as in Spring's own SimpleThreadScope.
+ */
+public class PooledStudentScope implements Scope, BeanFactoryPostProcessor, DisposableBean
+{
+	public static final String SCOPE_NAME = "pooled";
+
+	private final int maxIdle;
+	private final long leakThresholdNanos;
+
+	// guarded by `this`; get(..) and release(..) only hold it for a few map operations
+	private final Map<String, Deque<Object>> idle = new HashMap<>();
+	private final Map<String, Object> templates = new HashMap<>();
+	private final Map<BorrowedBean, Lease> borrowed = new HashMap<>();
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>(); // borrowed beans the GC has taken
+	private long created;
+	private long reused;
+	private long lost; // borrowed, never released, and garbage-collected since
+
+	public PooledStudentScope(int maxIdle, long leakThresholdMillis)
+	{
+		if (maxIdle < 0 || leakThresholdMillis <= 0)
+		{
+			throw new IllegalArgumentException("Need maxIdle >= 0 and leakThresholdMillis > 0");
+		}
+		this.maxIdle = maxIdle;
+		this.leakThresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakThresholdMillis);
+	}
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException
+	{
+		beanFactory.registerScope(SCOPE_NAME, this);
+	}
+
+	@Override
+	public Object get(String name, ObjectFactory<?> objectFactory)
+	{
+		Object bean;
+		boolean needsTemplate;
+		synchronized (this)
+		{
+			Deque<Object> pool = idle.get(name);
+			bean = pool == null ? null : pool.poll();
+			if (bean != null)
+			{
+				reused++;
+				lend(name, bean);
+				return bean;
+			}
+			needsTemplate = !templates.containsKey(name);
+		}
+
+		// built outside the lock: creating a bean can call back into the container
+		bean = objectFactory.getObject();
+		Object template = needsTemplate ? objectFactory.getObject() : null;
+		synchronized (this)
+		{
+			if (template != null)
+			{
+				templates.putIfAbsent(name, template);
+			}
+			created++;
+			lend(name, bean);
+		}
+		return bean;
+	}
+
+	// called holding `this`
+	private void lend(String name, Object bean)
+	{
+		expungeCollected();
+		borrowed.put(new BorrowedBean(bean, collected), new Lease(name, System.nanoTime(), Thread.currentThread().getName()));
+	}
+
+	// called holding `this`: drops the leases of beans that were garbage-collected without release(..)
+	private void expungeCollected()
+	{
+		for (Reference<?> reference; (reference = collected.poll()) != null; )
+		{
+			if (borrowed.remove(reference) != null)
+			{
+				lost++;
+			}
+		}
+	}
+
+	// Gives a bean from this scope back to its pool
+	public void release(Object bean)
+	{
+		Lease lease;
+		Object template;
+		synchronized (this)
+		{
+			lease = borrowed.remove(new BorrowedBean(bean, null));
+			if (lease == null)
+			{
+				throw new IllegalArgumentException("Not borrowed from the pooled scope (or already released): " + bean);
+			}
+			template = templates.get(lease.beanName());
+		}
+
+		ReflectionUtils.shallowCopyFieldState(template, bean);
+
+		synchronized (this)
+		{
+			Deque<Object> pool = idle.computeIfAbsent(lease.beanName(), key -> new ArrayDeque<>());
+			if (pool.size() < maxIdle)
+			{
+				pool.push(bean); // LIFO: the most recently used object is the most likely to still be in cache
+			}
+		}
+	}
+
+	// Borrowed objects that have not come back within the leak threshold
+	public synchronized List<Lease> findLeaks()
+	{
+		expungeCollected();
+		long now = System.nanoTime();
+		List<Lease> leaks = new ArrayList<>();
+		for (Lease lease : borrowed.values())
+		{
+			if (now - lease.borrowedAt() > leakThresholdNanos)
+			{
+				leaks.add(lease);
+			}
+		}
+		return leaks;
+	}
+
+	public synchronized String statistics()
+	{
+		int pooled = idle.values().stream().mapToInt(Deque::size).sum();
+		expungeCollected();
+		return "created=" + created + ", reused=" + reused + ", borrowed=" + borrowed.size() + ", idle=" + pooled
+				+ ", lost=" + lost;
+	}
+
+	@Override
+	public Object remove(String name)
+	{
+		synchronized (this)
+		{
+			idle.remove(name);
+			templates.remove(name);
+		}
+		return null; // there is no single "current" object of a pooled bean to hand back
+	}
+
+	@Override
+	public void registerDestructionCallback(String name, Runnable callback)
+	{
+		// pooled objects are reused rather than destroyed
+	}
+
+	@Override
+	public Object resolveContextualObject(String key)
+	{
+		return null;
+	}
+
+	@Override
+	public String getConversationId()
+	{
+		return null;
+	}
+
+	@Override
+	public void destroy()
+	{
+		List<Lease> leaks = findLeaks();
+		if (!leaks.isEmpty())
+		{
+			System.err.println("PooledStudentScope: " + leaks.size() + " bean(s) never released:");
+			long now = System.nanoTime();
+			for (Lease lease : leaks)
+			{
+				System.err.println("  " + lease.beanName() + " borrowed by thread '" + lease.thread() + "' "
+						+ TimeUnit.NANOSECONDS.toMillis(now - lease.borrowedAt()) + " ms ago");
+			}
+		}
+		synchronized (this)
+		{
+			if (lost > 0)
+			{
+				System.err.println("PooledStudentScope: " + lost + " bean(s) garbage-collected without being released");
+			}
+			idle.clear();
+			templates.clear();
+			borrowed.clear();
+		}
+	}
+
+	// A borrowed bean as a key of `borrowed`: compared by identity (like IdentityHashMap), but held weakly,
+	// so that the scope does not keep a bean alive that was never released
+	private static final class BorrowedBean extends WeakReference<Object>
+	{
+		private final int hash;
+
+		BorrowedBean(Object bean, ReferenceQueue<Object> queue)
+		{
+			super(bean, queue);
+			this.hash = System.identityHashCode(bean);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (this == other)
+			{
+				return true; // also how a collected (cleared) key is found again
+			}
+			Object bean = get();
+			return bean != null && other instanceof BorrowedBean that && bean == that.get();
+		}
+	}
+
+	public record Lease(String beanName, long borrowedAt, String thread)
+	{
+	}
+}
+
+
+/*
+- Spring's built-in scopes: singleton (one object), prototype (new object every time), and in web apps
+  request / session. Any other scope is a Scope implementation registered with registerScope(name, scope).
+- A bean uses it with @Scope("pooled") (or scope="pooled" in XML).
+- Pool size and leak threshold come from student.pool.size and student.pool.leak-threshold-ms
+  (see StudentPropertiesConfiguration).
+*/
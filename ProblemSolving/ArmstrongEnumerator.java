@@ -0,0 +1,163 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Every Armstrong (narcissistic) number in a base: a k-digit number equal to the sum of the k-th powers of its
+// digits. Base 10 has exactly 88 of them, the largest with 39 digits, so testing n one by one (ArmstrongNumber,
+// DigitUtils.isArmstrong) cannot get there.
+//
+// The power sum only depends on which digits occur, not on their order, so for each length k the search runs
+// over digit multisets instead of numbers: how many (b-1)s, then how many (b-2)s, ..., down to the 0s, which is
+// C(k + b - 1, b - 1) multisets instead of b^k numbers. The sum is built along the way, and a multiset is a hit
+// if its sum has exactly its digits. Most of the tree is cut off before it is reached:
+// - the sum so far plus the most the remaining digits can add must reach b^(k-1), and the sum so far must not
+//   pass b^k - 1;
+// - when every number in that reachable range starts with the same digits, those digits are already known to be
+//   in the answer: a digit whose count is already decided must have room for them, and the digits still to come
+//   must have enough places left for theirs.
+// Lengths run in parallel; beyond maxLength(b) no k-digit number can be reached (k * (b-1)^k < b^(k-1)).
+//
+// Try it: java ArmstrongEnumeratorBenchmark
+public class ArmstrongEnumerator {
+
+    private ArmstrongEnumerator() {
+    }
+
+    // All Armstrong numbers in base 10, in increasing order (1, 2, ..., 9, 153, 370, ...)
+    public static List<BigInteger> all() {
+        return all(10);
+    }
+
+    // All positive Armstrong numbers in the given base (2..36), in increasing order
+    public static List<BigInteger> all(int base) {
+        checkBase(base);
+        return IntStream.rangeClosed(1, maxLength(base))
+                .parallel()
+                .mapToObj(k -> ofLength(base, k))
+                .flatMap(List::stream)
+                .sorted()
+                .toList();
+    }
+
+    // The Armstrong numbers with exactly k digits in the given base, in increasing order
+    public static List<BigInteger> ofLength(int base, int k) {
+        checkBase(base);
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be >= 1: " + k);
+        }
+        Search search = new Search(base, k);
+        search.run(base - 1, k, BigInteger.ZERO);
+        search.found.sort(null);
+        return search.found;
+    }
+
+    // The longest length that can have an Armstrong number: k * (b-1)^k >= b^(k-1)
+    public static int maxLength(int base) {
+        checkBase(base);
+        BigInteger b = BigInteger.valueOf(base);
+        int k = 1;
+        while (BigInteger.valueOf(k + 1).multiply(b.subtract(BigInteger.ONE).pow(k + 1)).compareTo(b.pow(k)) >= 0) {
+            k++;
+        }
+        return k;
+    }
+
+    private static void checkBase(int base) {
+        if (base < 2 || base > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("base must be in [2, " + Character.MAX_RADIX + "]: " + base);
+        }
+    }
+
+    // The depth-first search for one base and length; digits are decided from base - 1 down to 0
+    private static final class Search {
+        private final int base, k;
+        private final BigInteger[] power; // d^k
+        private final BigInteger low, high; // b^(k-1) (1 for k = 1) and b^k - 1
+        private final int[] count; // count[d] for the digits decided so far
+        private final int[] prefix; // scratch: digit counts of a common prefix
+        private final List<BigInteger> found = new ArrayList<>();
+
+        Search(int base, int k) {
+            this.base = base;
+            this.k = k;
+            power = new BigInteger[base];
+            for (int d = 0; d < base; d++) {
+                power[d] = BigInteger.valueOf(d).pow(k);
+            }
+            BigInteger b = BigInteger.valueOf(base);
+            low = k == 1 ? BigInteger.ONE : b.pow(k - 1);
+            high = b.pow(k).subtract(BigInteger.ONE);
+            count = new int[base];
+            prefix = new int[base];
+        }
+
+        // Decide how many of digit d (and then of the smaller digits) there are, with `remaining` places left
+        void run(int d, int remaining, BigInteger sum) {
+            if (d == 0) {
+                count[0] = remaining;
+                if (sum.compareTo(low) >= 0 && sum.compareTo(high) <= 0 && hasDigits(sum)) {
+                    found.add(sum);
+                }
+                return;
+            }
+            BigInteger step = power[d];
+            // most of digit d first: the sum only falls from here
+            BigInteger withD = sum.add(step.multiply(BigInteger.valueOf(remaining)));
+            for (int c = remaining; c >= 0; c--, withD = withD.subtract(step)) {
+                if (withD.compareTo(high) > 0) {
+                    continue;
+                }
+                int rest = remaining - c;
+                BigInteger reachable = withD.add(power[d - 1].multiply(BigInteger.valueOf(rest)));
+                if (reachable.compareTo(low) < 0) {
+                    return; // fewer of digit d only lowers it further
+                }
+                count[d] = c;
+                if (prefixFits(d, rest, withD.max(low), reachable.min(high))) {
+                    run(d - 1, rest, withD);
+                }
+            }
+        }
+
+        // Every number in [from, to] starts with the same digits: can the multiset still contain them?
+        private boolean prefixFits(int d, int rest, BigInteger from, BigInteger to) {
+            if (to.subtract(from).compareTo(low) >= 0) {
+                return true; // at least b^(k-1) apart: not even the first digit is shared, no need to convert
+            }
+            String a = from.toString(base), z = to.toString(base);
+            if (a.length() != k || z.length() != k) {
+                return true; // only possible for k = 1 and the range reaching below 1; nothing to cut
+            }
+            Arrays.fill(prefix, 0);
+            for (int i = 0; i < k && a.charAt(i) == z.charAt(i); i++) {
+                prefix[Character.digit(a.charAt(i), base)]++;
+            }
+            int undecided = 0;
+            for (int e = 0; e < base; e++) {
+                if (e >= d) {
+                    if (prefix[e] > count[e]) {
+                        return false;
+                    }
+                } else {
+                    undecided += prefix[e];
+                }
+            }
+            return undecided <= rest;
+        }
+
+        // the digits of n (which has k digits) are exactly count[]
+        private boolean hasDigits(BigInteger n) {
+            String digits = n.toString(base);
+            if (digits.length() != k) {
+                return false;
+            }
+            Arrays.fill(prefix, 0);
+            for (int i = 0; i < k; i++) {
+                prefix[Character.digit(digits.charAt(i), base)]++;
+            }
+            return Arrays.equals(prefix, count);
+        }
+    }
+}
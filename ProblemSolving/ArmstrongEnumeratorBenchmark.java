@@ -0,0 +1,90 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+// Checks ArmstrongEnumerator against testing every number (DigitUtils.isArmstrong in base 10, a digit loop in
+// other bases) as far as that goes, then times the full enumeration for base 10 and other bases.
+// Run: javac ArmstrongEnumerator.java ArmstrongEnumeratorBenchmark.java DigitUtils.java
+//      java ArmstrongEnumeratorBenchmark [largest other base, default 9]
+public class ArmstrongEnumeratorBenchmark {
+
+    public static void main(String[] args) {
+        int maxBase = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+
+        // base 10 up to 10^8, one number at a time
+        long limit = 100_000_000;
+        long start = System.nanoTime();
+        List<BigInteger> scanned = new ArrayList<>();
+        for (long n = 1; n < limit; n++) {
+            if (DigitUtils.isArmstrong(n)) {
+                scanned.add(BigInteger.valueOf(n));
+            }
+        }
+        report("base 10, every n below 10^8", scanned.size(), start);
+        List<BigInteger> enumerated = new ArrayList<>();
+        for (int k = 1; k <= 8; k++) {
+            enumerated.addAll(ArmstrongEnumerator.ofLength(10, k));
+        }
+        check(enumerated.equals(scanned), "base 10 below 10^8: " + enumerated + " vs " + scanned);
+
+        // other bases against a digit loop, up to 2 * 10^6 or the longest possible length
+        for (int base = 2; base <= 16; base++) {
+            List<BigInteger> expected = new ArrayList<>();
+            long end = BigInteger.valueOf(base).pow(ArmstrongEnumerator.maxLength(base)).min(BigInteger.valueOf(2_000_000)).longValueExact();
+            for (long n = 1; n < end; n++) {
+                if (isArmstrong(n, base)) {
+                    expected.add(BigInteger.valueOf(n));
+                }
+            }
+            List<BigInteger> actual = new ArrayList<>();
+            for (int k = 1; BigInteger.valueOf(base).pow(k - 1).compareTo(BigInteger.valueOf(end)) < 0; k++) {
+                for (BigInteger n : ArmstrongEnumerator.ofLength(base, k)) {
+                    if (n.compareTo(BigInteger.valueOf(end)) < 0) {
+                        actual.add(n);
+                    }
+                }
+            }
+            check(actual.equals(expected), "base " + base + " below " + end + ": " + actual + " vs " + expected);
+        }
+        System.out.println("all checks passed");
+
+        // every base 10 Armstrong number: 88 of them, the largest with 39 digits
+        start = System.nanoTime();
+        List<BigInteger> all = ArmstrongEnumerator.all();
+        report("base 10, all lengths (1.." + ArmstrongEnumerator.maxLength(10) + ")", all.size(), start);
+        check(all.size() == 88, "88 in base 10, got " + all.size());
+        check(all.get(87).equals(new BigInteger("115132219018763992565095597973971522401")), "the largest");
+        System.out.println("largest: " + all.get(87));
+
+        for (int base = 2; base <= maxBase; base++) {
+            if (base == 10) {
+                continue;
+            }
+            start = System.nanoTime();
+            report("base " + base + ", all lengths (1.." + ArmstrongEnumerator.maxLength(base) + ")",
+                    ArmstrongEnumerator.all(base).size(), start);
+        }
+    }
+
+    private static boolean isArmstrong(long n, int base) {
+        int k = 0;
+        for (long rest = n; rest > 0; rest /= base) {
+            k++;
+        }
+        long sum = 0;
+        for (long rest = n; rest > 0; rest /= base) {
+            sum += BigInteger.valueOf(rest % base).pow(k).longValueExact();
+        }
+        return sum == n;
+    }
+
+    private static void report(String label, int found, long start) {
+        System.out.printf("%-40s %10.2f s  %d numbers%n", label, (System.nanoTime() - start) / 1e9, found);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
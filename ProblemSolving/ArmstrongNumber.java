@@ -4,22 +4,17 @@ public class ArmstrongNumber {
 	public static void main(String[] args) {
 		
 		//declaring variable
-		int n, c, armstrong = 0, reminder;
+		long n, c;
 		System.out.print("Enter number: ");
 		
 		//scanning user input
 		Scanner input = new Scanner(System.in);
-		n = input.nextInt();
+		n = input.nextLong();
 		c = n;
 		
-		//implementing logic
-		while(n>0) {
-			reminder = n%10;
-			armstrong = (reminder * reminder * reminder) + armstrong;
-			n = n/10;				
-		}
-		
-		if (c == armstrong) {
+		//implementing logic: the k-th power of each digit for a k-digit number, not always the cube
+		//(9474 = 9^4 + 4^4 + 7^4 + 4^4), from a table of pair power sums
+		if (DigitUtils.isArmstrong(c)) {
 			System.out.print("The given number "+ c +" is Armstrong number.");	
 		}
 		else
@@ -28,4 +23,6 @@ public class ArmstrongNumber {
 		}
 		
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac ArmstrongNumber.java DigitUtils.java
@@ -0,0 +1,252 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Exact n! for large n, n! mod p and the number of trailing zeros of n!, the last two without computing n!.
+//
+// - factorial(n): Luschny's prime swing. n! = (n/2)!^2 * swing(n) with swing(n) = n! / (n/2)!^2, and swing(n)
+//   is a product of prime powers that can be read off directly: the exponent of p is the number of odd values
+//   among n/p, n/p^2, ... (integer division). The powers of 2 are left out everywhere and put back at the end
+//   with one shift, 2^(n - bitCount(n)).
+// - Every product of many small numbers is a product tree (binary splitting): multiply the two halves, each of
+//   them the same way, so the big multiplications are between numbers of similar size (Karatsuba / Toom-Cook
+//   in BigInteger) instead of a huge number times a tiny one n times. Subtrees run in parallel on the fork-join
+//   pool, and so do swing(n) and (n/2)!.
+// - factorialMod(n, p): min(n, p - 1 - n) Montgomery products; Wilson's theorem (p-1)! = -1 (mod p) covers n > p/2.
+// - trailingZeros(n, base): Legendre's formula v_p(n!) = n/p + n/p^2 + ... for each prime of the base.
+//
+// Used by Factorial. Try it: java BigFactorialBenchmark
+public class BigFactorial {
+
+    // Below this many factors a product tree is multiplied out in the calling thread
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    // Below this n the plain loop is as fast as anything else
+    private static final int SMALL = 20;
+
+    private BigFactorial() {
+    }
+
+    public static BigInteger factorial(int n) {
+        return factorial(n, true);
+    }
+
+    public static BigInteger factorial(int n, boolean parallel) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        if (n <= SMALL) {
+            long result = 1;
+            for (int i = 2; i <= n; i++) {
+                result *= i; // 20! < 2^63
+            }
+            return BigInteger.valueOf(result);
+        }
+        int[] primes = PrimeSieve.primesUpTo(n);
+        BigInteger odd = parallel
+                ? ForkJoinPool.commonPool().invoke(new OddFactorialTask(n, primes))
+                : oddFactorial(n, primes, false);
+        return odd.shiftLeft(n - Integer.bitCount(n));
+    }
+
+    // 1 * 2 * ... * n by a product tree of the numbers themselves, without the prime swing (for comparison)
+    public static BigInteger productTree(int n, boolean parallel) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        long[] factors = new long[Math.max(n, 1)];
+        for (int i = 0; i < n; i++) {
+            factors[i] = i + 1;
+        }
+        if (n == 0) {
+            factors[0] = 1;
+        }
+        return product(pack(factors, factors.length), parallel);
+    }
+
+    // n! mod p for a prime p
+    public static long factorialMod(long n, long p) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        if (!MillerRabin.isPrime(p)) {
+            throw new IllegalArgumentException("p must be a prime: " + p);
+        }
+        if (n >= p) {
+            return 0;
+        }
+        if (p == 2) {
+            return 1;
+        }
+        Montgomery mont = new Montgomery(p);
+        long rest = p - 1 - n;
+        if (n <= rest) {
+            return mont.fromMontgomery(productR(mont, n));
+        }
+        // Wilson: -1 = (p-1)! = n! * (n+1) ... (p-1) = n! * (-1)^rest * rest!  (mod p)
+        long restR = productR(mont, rest);
+        long inverse = mont.fromMontgomery(mont.pow(restR, p - 2)); // Fermat: x^(p-2) = 1/x
+        // n! = -(-1)^rest / rest! = (-1)^(rest+1) / rest!
+        return (rest & 1) == 0 ? p - inverse : inverse;
+    }
+
+    // Exponent of the prime p in n!: n/p + n/p^2 + ... (Legendre)
+    public static long legendre(long n, long p) {
+        if (n < 0 || p < 2) {
+            throw new IllegalArgumentException("need n >= 0 and a prime p: " + n + ", " + p);
+        }
+        long exponent = 0;
+        for (long q = n / p; q > 0; q /= p) {
+            exponent += q;
+        }
+        return exponent;
+    }
+
+    // Trailing zeros of n! in base 10: every zero needs a 2 and a 5, and there are fewer 5s
+    public static long trailingZeros(long n) {
+        return legendre(n, 5);
+    }
+
+    // Trailing zeros of n! written in the given base: min over p^e in base of v_p(n!) / e
+    public static long trailingZeros(long n, long base) {
+        if (base < 2) {
+            throw new IllegalArgumentException("base must be >= 2: " + base);
+        }
+        long zeros = Long.MAX_VALUE;
+        for (long[] pair : Factorization.factorize(base)) {
+            zeros = Math.min(zeros, legendre(n, pair[0]) / pair[1]);
+        }
+        return zeros;
+    }
+
+    // 1 * 2 * ... * n in Montgomery form
+    private static long productR(Montgomery mont, long n) {
+        long result = mont.one();
+        for (long i = 2; i <= n; i++) {
+            result = mont.multiply(result, mont.toMontgomery(i));
+        }
+        return result;
+    }
+
+    // n! without its factors of 2
+    private static BigInteger oddFactorial(int n, int[] primes, boolean parallel) {
+        if (n < 2) {
+            return BigInteger.ONE;
+        }
+        BigInteger half = oddFactorial(n / 2, primes, parallel);
+        return half.multiply(half).multiply(oddSwing(n, primes, parallel));
+    }
+
+    // swing(n) = n! / (n/2)!^2 without its factors of 2
+    private static BigInteger oddSwing(int n, int[] primes, boolean parallel) {
+        long[] factors = new long[primes.length];
+        int size = 0;
+        int root = (int) PrimeSieve.isqrt(n);
+        for (int i = 1; i < primes.length && primes[i] <= n; i++) { // primes[0] = 2 is skipped
+            int p = primes[i];
+            if (p <= root) {
+                long power = 1;
+                for (int q = n / p; q > 0; q /= p) {
+                    if ((q & 1) == 1) {
+                        power *= p; // power <= n, no overflow
+                    }
+                }
+                if (power > 1) {
+                    factors[size++] = power;
+                }
+            } else if (((n / p) & 1) == 1) {
+                factors[size++] = p; // only n/p is non-zero, so the exponent is 0 or 1
+            }
+        }
+        if (size == 0) {
+            return BigInteger.ONE;
+        }
+        return product(pack(factors, size), parallel);
+    }
+
+    // Multiplies neighbouring factors together while the product still fits a long, so the tree has fewer leaves
+    static long[] pack(long[] factors, int size) {
+        long[] packed = new long[size];
+        int count = 0;
+        long current = 1;
+        for (int i = 0; i < size; i++) {
+            if (current > Long.MAX_VALUE / factors[i]) {
+                packed[count++] = current;
+                current = 1;
+            }
+            current *= factors[i];
+        }
+        packed[count++] = current;
+        return Arrays.copyOf(packed, count);
+    }
+
+    // factors[0] * ... * factors[length - 1] as a product tree; also used by NumberTheory.lcmUpTo
+    static BigInteger product(long[] factors, boolean parallel) {
+        if (parallel && factors.length > PARALLEL_THRESHOLD) {
+            return ForkJoinPool.commonPool().invoke(new ProductTask(factors, 0, factors.length));
+        }
+        return product(factors, 0, factors.length);
+    }
+
+    // factors[from] * ... * factors[to - 1], from < to
+    private static BigInteger product(long[] factors, int from, int to) {
+        if (to - from <= 4) {
+            BigInteger result = BigInteger.valueOf(factors[from]);
+            for (int i = from + 1; i < to; i++) {
+                result = result.multiply(BigInteger.valueOf(factors[i]));
+            }
+            return result;
+        }
+        int middle = (from + to) >>> 1;
+        return product(factors, from, middle).multiply(product(factors, middle, to));
+    }
+
+    @SuppressWarnings("serial") // a fork-join task, never serialized
+    private static class ProductTask extends RecursiveTask<BigInteger> {
+        private final long[] factors;
+        private final int from, to;
+
+        ProductTask(long[] factors, int from, int to) {
+            this.factors = factors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return product(factors, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            ProductTask left = new ProductTask(factors, from, middle);
+            left.fork();
+            BigInteger right = new ProductTask(factors, middle, to).compute();
+            return left.join().multiply(right);
+        }
+    }
+
+    // oddFactorial with the swing of each level computed next to the recursion below it
+    @SuppressWarnings("serial") // a fork-join task, never serialized
+    private static class OddFactorialTask extends RecursiveTask<BigInteger> {
+        private final int n;
+        private final int[] primes;
+
+        OddFactorialTask(int n, int[] primes) {
+            this.n = n;
+            this.primes = primes;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (n < 2) {
+                return BigInteger.ONE;
+            }
+            OddFactorialTask half = new OddFactorialTask(n / 2, primes);
+            half.fork();
+            BigInteger swing = oddSwing(n, primes, true);
+            BigInteger h = half.join();
+            return h.multiply(h).multiply(swing);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+import java.math.BigInteger;
+
+// Times BigFactorial against the old Factorial loop (one multiplication per number) and checks the answers.
+// Run: javac BigFactorial.java BigFactorialBenchmark.java PrimeSieve.java Factorization.java MillerRabin.java Montgomery.java
+//      java BigFactorialBenchmark [n, default 1000000; the one-by-one loop alone takes about 8 minutes there]
+public class BigFactorialBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        // small n against the loop, every variant
+        BigInteger expected = BigInteger.ONE;
+        for (int i = 0; i <= 1500; i++) {
+            if (i > 0) {
+                expected = expected.multiply(BigInteger.valueOf(i));
+            }
+            check(BigFactorial.factorial(i, false).equals(expected), i + "! sequential");
+            check(BigFactorial.factorial(i, true).equals(expected), i + "! parallel");
+            check(BigFactorial.productTree(i, true).equals(expected), i + "! product tree");
+            check(BigFactorial.trailingZeros(i) == zeros(expected, 10), "trailing zeros of " + i + "!");
+            check(BigFactorial.trailingZeros(i, 12) == zeros(expected, 12), "base-12 trailing zeros of " + i + "!");
+            check(BigFactorial.factorialMod(i, 1_000_000_007L) == expected.mod(BigInteger.valueOf(1_000_000_007L)).longValue(), i + "! mod 10^9+7");
+            check(BigFactorial.factorialMod(i, 3001) == expected.mod(BigInteger.valueOf(3001)).longValue(), i + "! mod 3001");
+        }
+
+        long start = System.nanoTime();
+        BigInteger naive = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            naive = naive.multiply(BigInteger.valueOf(i));
+        }
+        report(n + "!, one multiplication per number", naive.bitLength() + " bits", start);
+
+        start = System.nanoTime();
+        BigInteger tree = BigFactorial.productTree(n, false);
+        report(n + "!, product tree", "", start);
+        start = System.nanoTime();
+        BigInteger sequential = BigFactorial.factorial(n, false);
+        report(n + "!, prime swing, sequential", "", start);
+        start = System.nanoTime();
+        BigInteger parallel = BigFactorial.factorial(n, true);
+        report(n + "!, prime swing, parallel", "", start);
+        check(tree.equals(naive) && sequential.equals(naive) && parallel.equals(naive), n + "!");
+
+        start = System.nanoTime();
+        long zeros = BigFactorial.trailingZeros(1_000_000_000_000L);
+        report("trailing zeros of (10^12)!", String.valueOf(zeros), start);
+        long p = 1_000_000_007L;
+        start = System.nanoTime();
+        long mod = BigFactorial.factorialMod(p - 10, p);
+        report("(p - 10)! mod p, p = 10^9+7 (Wilson)", String.valueOf(mod), start);
+        start = System.nanoTime();
+        long direct = BigFactorial.factorialMod(50_000_000, p);
+        report("(5 * 10^7)! mod p, p = 10^9+7", String.valueOf(direct), start);
+        System.out.println("all checks passed");
+    }
+
+    private static long zeros(BigInteger value, int base) {
+        BigInteger b = BigInteger.valueOf(base);
+        long count = 0;
+        while (value.signum() != 0 && value.mod(b).signum() == 0) {
+            value = value.divide(b);
+            count++;
+        }
+        return count;
+    }
+
+    private static void report(String label, String value, long start) {
+        System.out.printf("%-45s %10.1f ms  %s%n", label, (System.nanoTime() - start) / 1e6, value);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
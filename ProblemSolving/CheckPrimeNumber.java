@@ -4,24 +4,22 @@ public class CheckPrimeNumber {
 	public static void main (String[] args) {
 		
 		//declaring variable
-		int n, count = 0;
+		long n;
 		System.out.print("Enter number: ");
 		
 		//scanning user input
 		Scanner input = new Scanner (System.in);
-		n = input.nextInt();
+		n = input.nextLong();
 		
-		//implementing logic
-		for (int i = 1; i<=n; i++) {
-			if (n%i == 0) {
-				count++;
-			}
-		}
-		
-		if (count == 2) {
+		//implementing logic: Miller-Rabin test (see MillerRabin.java), works for any long in microseconds
+		//instead of counting all divisors from 1 to n
+		if (MillerRabin.isPrime(n)) {
 			System.out.print("The number "+ n + " is prime number.");
 		} else {
 			System.out.print("The number "+ n + " is not prime number.");
 		}
 	}
-}
\ No newline at end of file
+}
+
+//Compile with the test: javac CheckPrimeNumber.java MillerRabin.java Montgomery.java
+//A prime has exactly two divisors (1 and itself); the old version counted them with n divisions
@@ -3,15 +3,12 @@ import java.util.Scanner;
 public class CommonDivisor {
     public static void main(String args[]) {
         Scanner sc = new Scanner(System.in);
-        int n1 = sc.nextInt();
-        int n2 = sc.nextInt();
-        while (n1 != n2) {
-            if (n1 > n2) {
-                n1 = n1 - n2;
-            } else {
-                n2 = n2 - n1;
-            }
-        }
-        System.out.println("GCD is : " + n2);
+        long n1 = sc.nextLong();
+        long n2 = sc.nextLong();
+        // Binary GCD (see NumberTheory.java): halves the numbers instead of only subtracting,
+        // so GCD(10^9, 1) takes a few steps instead of 10^9 subtractions
+        System.out.println("GCD is : " + NumberTheory.gcd(n1, n2));
     }
-}
\ No newline at end of file
+}
+
+// Compile with: javac CommonDivisor.java NumberTheory.java
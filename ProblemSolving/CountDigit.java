@@ -4,22 +4,21 @@ public class CountDigit {
     public static void main (String[] args) {
         
         //Variable decleartion
-        int n, hold, count = 0; //we assign count = 0, so when n/value get incremented with '1'
+        long n;
+        int count;
         System.out.print("Enter any nubmer ");
         
         //User input
         Scanner input = new Scanner(System.in);
-        n = input.nextInt();
-        hold = n;
+        n = input.nextLong();
+        long hold = n;
         
-        //logic implementation
-        while(n>0) //the loop only works if our given is grester than '0;
-        {
-            n = n/10;
-            count++; //counter variable
-        }
+        //logic implementation: the bit length gives log10 up to one, a power of ten settles it (no loop)
+        count = DigitUtils.digitCount(n);
         
         //Display result
         System.out.print("No. of Digits for "+ hold +": " + count);
     }
-}                                
\ No newline at end of file
+}
+
+//Compile with: javac CountDigit.java DigitUtils.java
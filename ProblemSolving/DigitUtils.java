@@ -0,0 +1,151 @@
+// Decimal digits of a long without peeling them off one at a time with % 10 and / 10:
+//
+// - digitCount(n): log10 from the bit length. A number of b bits has floor(b * log10(2)) or one more digits;
+//   b * 1233 >>> 12 is floor(b * log10(2)) for every b <= 64, and one compare with a power of ten settles it.
+//   No loop at all.
+// - digitSum, reverse, isPalindrome, isArmstrong: two digits per step, n % 100 looked up in 100-entry tables
+//   (pair sum, pair reversed, a^k + b^k for the pair). Half the divisions, and the JIT turns each division by
+//   the constant 100 into a multiplication anyway.
+// - isArmstrong(n) for any length k: n equals the sum of the k-th powers of its digits. The old ArmstrongNumber
+//   always used cubes, which is only right for 3 digits (it said no to 9474 = 9^4 + 4^4 + 7^4 + 4^4).
+//   Powers up to 9^19 come from a table; the sum stops as soon as it passes n.
+//
+// Negative numbers count by their absolute value, except that reverse keeps the sign and no negative number
+// is a palindrome or an Armstrong number.
+//
+// Used by CountDigit, SumOfDigits, ReverseNumber, PalindromeNumber and ArmstrongNumber. Try it: java DigitUtilsBenchmark
+public class DigitUtils {
+
+    // 10^0 .. 10^18
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    // for n = 0..99: the sum of its two digits, and the two digits swapped (7 -> 70, 12 -> 21)
+    private static final int[] PAIR_SUM = new int[100];
+    private static final int[] PAIR_REVERSED = new int[100];
+
+    // PAIR_POWER_SUM[k][n] = a^k + b^k for n = 10a + b, k = 1..19 (at most 2 * 9^19 < 2^62)
+    private static final long[][] PAIR_POWER_SUM = new long[20][100];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+        for (int n = 0; n < 100; n++) {
+            int a = n / 10, b = n % 10;
+            PAIR_SUM[n] = a + b;
+            PAIR_REVERSED[n] = b * 10 + a;
+        }
+        for (int k = 1; k < PAIR_POWER_SUM.length; k++) {
+            long[] power = new long[10];
+            for (int d = 0; d < 10; d++) {
+                power[d] = 1;
+                for (int i = 0; i < k; i++) {
+                    power[d] *= d;
+                }
+            }
+            for (int n = 0; n < 100; n++) {
+                PAIR_POWER_SUM[k][n] = power[n / 10] + power[n % 10];
+            }
+        }
+    }
+
+    private DigitUtils() {
+    }
+
+    // Number of decimal digits of |n|; 1 for 0
+    public static int digitCount(long n) {
+        if (n < 0) {
+            if (n == Long.MIN_VALUE) {
+                return 19;
+            }
+            n = -n;
+        }
+        n |= 1; // same digit count, and no special case for 0
+        int guess = ((64 - Long.numberOfLeadingZeros(n)) * 1233) >>> 12;
+        return guess + (n >= POWERS_OF_TEN[guess] ? 1 : 0); // guess <= 18, as n < 2^63
+    }
+
+    // Sum of the decimal digits of |n|
+    public static int digitSum(long n) {
+        int sum = 0;
+        if (n < 0) {
+            sum = (int) -(n % 10); // one digit first, so that -Long.MIN_VALUE is never needed
+            n = -(n / 10);
+        }
+        while (n >= 100) {
+            long q = n / 100;
+            sum += PAIR_SUM[(int) (n - q * 100)];
+            n = q;
+        }
+        return sum + PAIR_SUM[(int) n];
+    }
+
+    // The digits of n in reverse order, keeping the sign: 1234 -> 4321, -120 -> -21;
+    // ArithmeticException if that does not fit a long (only possible for 19 digits)
+    public static long reverse(long n) {
+        if (n < 0) {
+            if (n == Long.MIN_VALUE) {
+                throw new ArithmeticException("The reverse of " + n + " does not fit a long");
+            }
+            return -reverse(-n);
+        }
+        int count = digitCount(n);
+        if (count == 19) {
+            // the first step may overflow: 9223372036854775807 -> 7085774586302733229 fits, 1999999999999999999 not
+            long low = reverseFixed(n % POWERS_OF_TEN[18], 18);
+            return Math.addExact(Math.multiplyExact(low, 10), n / POWERS_OF_TEN[18]);
+        }
+        return reverseFixed(n, count);
+    }
+
+    // true if the decimal digits of n read the same backwards; false for negative n
+    public static boolean isPalindrome(long n) {
+        if (n < 0) {
+            return false;
+        }
+        int count = digitCount(n);
+        if (count < 19) {
+            return reverseFixed(n, count) == n; // only divisions by the constant 100
+        }
+        // 19 digits: the reverse may not fit, so the low half reversed (with its leading zeros) must equal the high half
+        long low = n % POWERS_OF_TEN[9];
+        long high = n / POWERS_OF_TEN[10];
+        return reverseFixed(low, 9) == high;
+    }
+
+    // true if n is the sum of the k-th powers of its k digits (153 = 1^3 + 5^3 + 3^3); false for negative n
+    public static boolean isArmstrong(long n) {
+        if (n < 0) {
+            return false;
+        }
+        long[] table = PAIR_POWER_SUM[digitCount(n)];
+        long sum = 0;
+        long rest = n;
+        while (rest >= 100) {
+            long q = rest / 100;
+            // sum <= n < 2^63 before the step and a pair adds less than 2^62, so unsigned never wraps
+            sum += table[(int) (rest - q * 100)];
+            if (Long.compareUnsigned(sum, n) > 0) {
+                return false;
+            }
+            rest = q;
+        }
+        sum += table[(int) rest];
+        return sum == n;
+    }
+
+    // The `width` lowest digits of n (n < 10^width) in reverse order, counting leading zeros: (120, 4) -> 210
+    private static long reverseFixed(long n, int width) {
+        long reversed = 0;
+        for (int i = 0; i + 1 < width; i += 2) {
+            long q = n / 100;
+            reversed = reversed * 100 + PAIR_REVERSED[(int) (n - q * 100)];
+            n = q;
+        }
+        if ((width & 1) != 0) {
+            reversed = reversed * 10 + n;
+        }
+        return reversed;
+    }
+}
@@ -0,0 +1,164 @@
+import java.util.SplittableRandom;
+
+// Checks DigitUtils against the digit-by-digit loops of the old programs (and String for what they got wrong),
+// then scans 1..N with both and prints the time per number.
+// Run: javac DigitUtils.java DigitUtilsBenchmark.java && java DigitUtilsBenchmark [N, default 10^9]
+public class DigitUtilsBenchmark {
+
+    public static void main(String[] args) {
+        long n = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000_000L;
+        SplittableRandom random = new SplittableRandom(49);
+
+        for (int i = 0; i < 2_000_000; i++) {
+            long x = i < 1000 ? i - 500 : random.nextLong() >> random.nextInt(64);
+            String digits = x == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(x));
+            check(DigitUtils.digitCount(x) == digits.length(), "digitCount(" + x + ")");
+            check(DigitUtils.digitSum(x) == digits.chars().map(c -> c - '0').sum(), "digitSum(" + x + ")");
+            String reversed = new StringBuilder(digits).reverse().toString();
+            check(DigitUtils.isPalindrome(x) == (x >= 0 && reversed.equals(digits)), "isPalindrome(" + x + ")");
+            check(DigitUtils.isArmstrong(x) == (x >= 0 && armstrongByString(digits)), "isArmstrong(" + x + ")");
+            try {
+                long expected = Long.parseLong((x < 0 ? "-" : "") + reversed);
+                check(DigitUtils.reverse(x) == expected, "reverse(" + x + ")");
+            } catch (NumberFormatException tooBig) {
+                try {
+                    DigitUtils.reverse(x);
+                    check(false, "reverse(" + x + ") should not fit");
+                } catch (ArithmeticException expected) {
+                    // right
+                }
+            }
+        }
+        for (long p = 1; p > 0 && p <= Long.MAX_VALUE / 10; p *= 10) {
+            // digit count changes exactly at the powers of ten
+            check(DigitUtils.digitCount(p - 1) == Math.max(1, Long.toString(p - 1).length())
+                    && DigitUtils.digitCount(p) == Long.toString(p).length(), "digitCount around " + p);
+        }
+        check(DigitUtils.isArmstrong(9474) && !oldArmstrong(9474), "9474 = 9^4 + 4^4 + 7^4 + 4^4");
+        check(DigitUtils.isArmstrong(4679307774L), "4679307774");
+        System.out.println("all checks passed");
+
+        // scans over 1..n: the old % 10 / 10 loop per number against DigitUtils
+        for (int run = 0; run < 2; run++) {
+            long start = System.nanoTime();
+            long checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += oldCount(x);
+            }
+            report("digit count, / 10 loop", n, checksum, start);
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += DigitUtils.digitCount(x);
+            }
+            report("digit count, DigitUtils", n, checksum, start);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += oldSum(x);
+            }
+            report("digit sum, % 10 loop", n, checksum, start);
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += DigitUtils.digitSum(x);
+            }
+            report("digit sum, DigitUtils", n, checksum, start);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += oldPalindrome(x) ? 1 : 0;
+            }
+            report("palindromes, % 10 loop", n, checksum, start);
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += DigitUtils.isPalindrome(x) ? 1 : 0;
+            }
+            report("palindromes, DigitUtils", n, checksum, start);
+
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += oldArmstrongAnyLength(x) ? 1 : 0;
+            }
+            report("Armstrong numbers, % 10 and Math.pow", n, checksum, start);
+            start = System.nanoTime();
+            checksum = 0;
+            for (long x = 1; x <= n; x++) {
+                checksum += DigitUtils.isArmstrong(x) ? 1 : 0;
+            }
+            report("Armstrong numbers, DigitUtils", n, checksum, start);
+        }
+    }
+
+    private static int oldCount(long n) {
+        int count = 0;
+        while (n > 0) {
+            n = n / 10;
+            count++;
+        }
+        return count;
+    }
+
+    private static int oldSum(long n) {
+        int sum = 0;
+        while (n > 0) {
+            sum += n % 10;
+            n = n / 10;
+        }
+        return sum;
+    }
+
+    private static boolean oldPalindrome(long n) {
+        long c = n, sum = 0;
+        while (n > 0) {
+            sum = sum * 10 + n % 10;
+            n = n / 10;
+        }
+        return c == sum;
+    }
+
+    // the old ArmstrongNumber: cubes whatever the length
+    private static boolean oldArmstrong(long n) {
+        long c = n, armstrong = 0;
+        while (n > 0) {
+            long r = n % 10;
+            armstrong += r * r * r;
+            n = n / 10;
+        }
+        return c == armstrong;
+    }
+
+    // what a fixed old loop would do: count the digits, then Math.pow per digit
+    private static boolean oldArmstrongAnyLength(long n) {
+        int k = oldCount(n);
+        long c = n, sum = 0;
+        while (n > 0) {
+            sum += (long) Math.pow(n % 10, k);
+            n = n / 10;
+        }
+        return c == sum;
+    }
+
+    private static boolean armstrongByString(String digits) {
+        java.math.BigInteger sum = java.math.BigInteger.ZERO;
+        for (char c : digits.toCharArray()) {
+            sum = sum.add(java.math.BigInteger.valueOf(c - '0').pow(digits.length()));
+        }
+        return sum.toString().equals(digits);
+    }
+
+    private static void report(String label, long n, long checksum, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-38s %8.2f s %7.2f ns/number  (%d)%n", label, seconds, seconds * 1e9 / n, checksum);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
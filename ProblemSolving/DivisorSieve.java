@@ -0,0 +1,247 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// sigma(n), d(n) and the prime factorisation of every n <= N at once, as a table to query afterwards.
+//
+// - sigma(n) = sum of the divisors of n, d(n) = number of divisors, spf(n) = smallest prime factor.
+// - The range is cut in chunks of 2^18 numbers that are filled in parallel on the fork-join pool. In a chunk,
+//   every prime p <= sqrt(N) visits its multiples, divides p out completely (p^e) and multiplies
+//   sigma by 1 + p + ... + p^e and d by e + 1. Whatever is left after the last such prime is one big prime q:
+//   sigma *= q + 1, d *= 2. In total that is O(N log log N) work, with no division of n by every i < n.
+// - Primitive arrays only: int sigma, short d and char spf (0 = "n is a prime above sqrt(N)"), 8 bytes per n,
+//   so N = 10^8 needs about 800 MB (run with -Xmx2g).
+//
+// Classifying every n <= N as perfect / abundant / deficient, or listing perfect and amicable numbers,
+// is then one pass over the table. Single numbers: see Factorization. Try it: java -Xmx2g DivisorSieveBenchmark
+public class DivisorSieve {
+
+    // sigma(n) < 2^31 for every n below this bound (sigma(n) / n < 5.6 here) and sqrt(MAX_LIMIT) fits a char
+    public static final int MAX_LIMIT = 300_000_000;
+
+    private static final int CHUNK = 1 << 18;
+
+    // Chunks handled by one fork-join task before it stops splitting
+    private static final int CHUNKS_PER_TASK = 4;
+
+    public enum Kind {
+        DEFICIENT, // sigma(n) - n < n
+        PERFECT,   // sigma(n) - n == n
+        ABUNDANT   // sigma(n) - n > n
+    }
+
+    private final int limit;
+    private final int[] sigma;
+    private final short[] divisors;
+    private final char[] spf;
+
+    private DivisorSieve(int limit) {
+        this.limit = limit;
+        this.sigma = new int[limit + 1];
+        this.divisors = new short[limit + 1];
+        this.spf = new char[limit + 1];
+    }
+
+    // Table for 1 <= n <= limit
+    public static DivisorSieve upTo(int limit) {
+        return upTo(limit, true);
+    }
+
+    public static DivisorSieve upTo(int limit, boolean parallel) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be in [1, " + MAX_LIMIT + "]: " + limit);
+        }
+        DivisorSieve table = new DivisorSieve(limit);
+        int[] primes = PrimeSieve.primesUpTo((int) PrimeSieve.isqrt(limit));
+        int chunks = (limit + CHUNK) / CHUNK; // chunk c holds [c * CHUNK, (c + 1) * CHUNK)
+        if (parallel && chunks > CHUNKS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(new FillTask(table, primes, 0, chunks));
+        } else {
+            table.fillChunks(primes, 0, chunks);
+        }
+        return table;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    // Sum of all divisors of n, n included
+    public long sigma(int n) {
+        check(n);
+        return sigma[n];
+    }
+
+    // Sum of the divisors of n below n (the aliquot sum)
+    public long properDivisorSum(int n) {
+        return sigma(n) - n;
+    }
+
+    // Number of divisors of n
+    public int divisorCount(int n) {
+        check(n);
+        return divisors[n];
+    }
+
+    public int smallestPrimeFactor(int n) {
+        check(n);
+        if (n == 1) {
+            return 1;
+        }
+        return spf[n] == 0 ? n : spf[n];
+    }
+
+    public boolean isPrime(int n) {
+        check(n);
+        return n > 1 && smallestPrimeFactor(n) == n;
+    }
+
+    // Prime factors of n in increasing order, repeated by multiplicity: 360 -> [2, 2, 2, 3, 3, 5]
+    public int[] primeFactors(int n) {
+        check(n);
+        int[] factors = new int[32]; // an int has at most 31 prime factors
+        int size = 0;
+        while (n > 1) {
+            int p = smallestPrimeFactor(n);
+            factors[size++] = p;
+            n /= p;
+        }
+        return Arrays.copyOf(factors, size);
+    }
+
+    // {prime, exponent} pairs: 360 -> [[2, 3], [3, 2], [5, 1]]
+    public int[][] factorize(int n) {
+        check(n);
+        List<int[]> pairs = new ArrayList<>();
+        while (n > 1) {
+            int p = smallestPrimeFactor(n);
+            int e = 0;
+            while (n % p == 0) {
+                n /= p;
+                e++;
+            }
+            pairs.add(new int[] {p, e});
+        }
+        return pairs.toArray(new int[0][]);
+    }
+
+    public Kind classify(int n) {
+        long aliquot = properDivisorSum(n);
+        return aliquot < n ? Kind.DEFICIENT : aliquot == n ? Kind.PERFECT : Kind.ABUNDANT;
+    }
+
+    // How many n <= limit are deficient, perfect and abundant, indexed by Kind.ordinal()
+    public long[] countByKind() {
+        long[] counts = new long[Kind.values().length];
+        for (int n = 1; n <= limit; n++) {
+            counts[classify(n).ordinal()]++;
+        }
+        return counts;
+    }
+
+    // All perfect numbers <= limit: 6, 28, 496, 8128, 33550336, ...
+    public int[] perfectNumbers() {
+        int[] found = new int[8];
+        int size = 0;
+        for (int n = 2; n <= limit; n++) {
+            if (sigma[n] - n == n) {
+                if (size == found.length) {
+                    found = Arrays.copyOf(found, size * 2);
+                }
+                found[size++] = n;
+            }
+        }
+        return Arrays.copyOf(found, size);
+    }
+
+    // Amicable pairs {a, b} with a < b <= limit, s(a) = b and s(b) = a, in increasing order of a
+    public int[][] amicablePairs() {
+        List<int[]> pairs = new ArrayList<>();
+        for (int a = 2; a <= limit; a++) {
+            long b = (long) sigma[a] - a;
+            if (b > a && b <= limit && sigma[(int) b] - b == a) {
+                pairs.add(new int[] {a, (int) b});
+            }
+        }
+        return pairs.toArray(new int[0][]);
+    }
+
+    private void check(int n) {
+        if (n < 1 || n > limit) {
+            throw new IllegalArgumentException("n must be in [1, " + limit + "]: " + n);
+        }
+    }
+
+    private void fillChunks(int[] primes, int fromChunk, int toChunk) {
+        int[] rest = new int[CHUNK]; // rest[i] = what is left of lo + i after dividing out the primes so far
+        for (int c = fromChunk; c < toChunk; c++) {
+            int lo = c * CHUNK;
+            int hi = (int) Math.min(limit, (long) lo + CHUNK - 1);
+            fillChunk(lo, hi, primes, rest);
+        }
+    }
+
+    private void fillChunk(int lo, int hi, int[] primes, int[] rest) {
+        for (int n = lo; n <= hi; n++) {
+            rest[n - lo] = n;
+            sigma[n] = 1;
+            divisors[n] = 1;
+        }
+        for (int p : primes) {
+            long first = Math.max(p, ((long) lo + p - 1) / p * p);
+            for (long m = first; m <= hi; m += p) {
+                int i = (int) (m - lo);
+                int r = rest[i] / p;
+                int e = 1;
+                long power = p, term = 1 + p; // term = 1 + p + ... + p^e
+                while (r % p == 0) {
+                    r /= p;
+                    e++;
+                    power *= p;
+                    term += power;
+                }
+                rest[i] = r;
+                sigma[(int) m] *= (int) term;
+                divisors[(int) m] *= (short) (e + 1);
+                if (spf[(int) m] == 0) {
+                    spf[(int) m] = (char) p; // primes come in increasing order, so the first one is the smallest
+                }
+            }
+        }
+        for (int n = Math.max(lo, 2); n <= hi; n++) {
+            int q = rest[n - lo];
+            if (q > 1) {
+                // one prime above sqrt(limit) is left; spf stays 0 when it is n itself
+                sigma[n] *= q + 1;
+                divisors[n] *= 2;
+            }
+        }
+    }
+
+    // Splits the chunks until each task has CHUNKS_PER_TASK of them, each leaf with its own buffer
+    @SuppressWarnings("serial") // a fork-join task, never serialized
+    private static class FillTask extends RecursiveAction {
+        private final DivisorSieve table;
+        private final int[] primes;
+        private final int fromChunk, toChunk;
+
+        FillTask(DivisorSieve table, int[] primes, int fromChunk, int toChunk) {
+            this.table = table;
+            this.primes = primes;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk <= CHUNKS_PER_TASK) {
+                table.fillChunks(primes, fromChunk, toChunk);
+                return;
+            }
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new FillTask(table, primes, fromChunk, middle), new FillTask(table, primes, middle, toChunk));
+        }
+    }
+}
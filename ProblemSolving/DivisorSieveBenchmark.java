@@ -0,0 +1,71 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Times DivisorSieve against the old PerfectNumber loop (i from 1 to n, for every n) and checks the table.
+// Run: javac DivisorSieve.java DivisorSieveBenchmark.java PrimeSieve.java Factorization.java MillerRabin.java Montgomery.java
+//      java -Xmx2g DivisorSieveBenchmark [limit, default 100000000]
+public class DivisorSieveBenchmark {
+
+    public static void main(String[] args) {
+        int limit = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+
+        // classify 1..20000: the old O(N^2) loop vs the sieve
+        int small = 20_000;
+        long start = System.nanoTime();
+        long[] naive = new long[DivisorSieve.Kind.values().length];
+        for (int n = 1; n <= small; n++) {
+            long sum = 0;
+            for (int i = 1; i < n; i++) {
+                if (n % i == 0) {
+                    sum += i;
+                }
+            }
+            naive[sum < n ? 0 : sum == n ? 1 : 2]++;
+        }
+        report("classify 1.." + small + ", loop per n", Arrays.toString(naive), start);
+        start = System.nanoTime();
+        long[] sieved = DivisorSieve.upTo(small).countByKind();
+        report("classify 1.." + small + ", sieve", Arrays.toString(sieved), start);
+        check(Arrays.equals(naive, sieved), "deficient/perfect/abundant counts");
+
+        // the full table, sequential and parallel
+        start = System.nanoTime();
+        DivisorSieve.upTo(limit, false);
+        report("table up to " + limit + ", sequential", "", start);
+        start = System.nanoTime();
+        DivisorSieve table = DivisorSieve.upTo(limit, true);
+        report("table up to " + limit + ", parallel", "", start);
+
+        // spot checks against Factorization
+        SplittableRandom random = new SplittableRandom(40);
+        for (int i = 0; i < 100_000; i++) {
+            int n = random.nextInt(1, limit + 1);
+            long[] factors = Factorization.primeFactors(n);
+            check(table.sigma(n) == Factorization.sumOfDivisors(n), "sigma(" + n + ")");
+            check(table.divisorCount(n) == Factorization.divisors(n).length, "d(" + n + ")");
+            check(Arrays.equals(table.primeFactors(n), Arrays.stream(factors).mapToInt(f -> (int) f).toArray()), "factors of " + n);
+        }
+        System.out.println("100000 random entries agree with Factorization");
+
+        start = System.nanoTime();
+        report("counts [deficient, perfect, abundant]", Arrays.toString(table.countByKind()), start);
+        start = System.nanoTime();
+        int[] perfect = table.perfectNumbers();
+        report("perfect numbers", Arrays.toString(perfect), start);
+        start = System.nanoTime();
+        int[][] amicable = table.amicablePairs();
+        report("amicable pairs", amicable.length + " pairs, first " + Arrays.toString(amicable[0])
+                + ", last " + Arrays.toString(amicable[amicable.length - 1]), start);
+        check(amicable[0][0] == 220 && amicable[0][1] == 284, "first amicable pair");
+    }
+
+    private static void report(String label, String value, long start) {
+        System.out.printf("%-45s %10.1f ms  %s%n", label, (System.nanoTime() - start) / 1e6, value);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
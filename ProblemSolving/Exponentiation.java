@@ -0,0 +1,116 @@
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+// base^exponent with O(log exponent) multiplications instead of exponent of them (square-and-multiply):
+// base^13 = base^8 * base^4 * base^1, where base^2, base^4, base^8 are repeated squares.
+//
+// - pow(long, int):             exact; Math.multiplyExact throws ArithmeticException instead of overflowing silently.
+// - pow(BigInteger, int):       BigInteger.pow, which already squares (and takes powers of two out as a shift).
+// - modPow(long, long, long):   any modulus up to 2^63 - 1. Odd moduli use Montgomery multiplication (Montgomery.java).
+//                               An even modulus m = 2^s * o is done as mod 2^s (plain wrapping long products)
+//                               and mod o (Montgomery), joined by the Chinese remainder theorem.
+// - modPow(BigInteger, ...):    BigInteger.modPow, which is Montgomery with sliding windows for odd moduli and
+//                               has intrinsic multiply/square loops on common JVMs; nothing to win by hand there.
+// - modPow(bases[], ...):       one exponent and modulus for many bases, in parallel on the fork-join pool; the
+//                               long version sets up the Montgomery constants once for all of them.
+//
+// Used by Power. Try it: java ExponentiationBenchmark
+public class Exponentiation {
+
+    private Exponentiation() {
+    }
+
+    // base^exponent exactly, exponent >= 0
+    public static long pow(long base, int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must be >= 0: " + exponent);
+        }
+        long result = 1;
+        while (true) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent == 0) {
+                return result;
+            }
+            base = Math.multiplyExact(base, base); // only squared when a higher bit still needs it
+        }
+    }
+
+    public static BigInteger pow(BigInteger base, int exponent) {
+        return base.pow(exponent);
+    }
+
+    // base^exponent mod m for m >= 1 and exponent >= 0; base may be negative
+    public static long modPow(long base, long exponent, long m) {
+        if (m < 1) {
+            throw new IllegalArgumentException("m must be >= 1: " + m);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must be >= 0: " + exponent);
+        }
+        base = Math.floorMod(base, m);
+        if ((m & 1) != 0) {
+            return m == 1 ? 0 : new Montgomery(m).modPow(base, exponent);
+        }
+        int s = Long.numberOfTrailingZeros(m);
+        long odd = m >>> s;
+        long mask = (1L << s) - 1;
+        long high = odd == 1 ? 0 : new Montgomery(odd).modPow(base % odd, exponent);
+        long low = powMod2(base, exponent) & mask;
+        return crt(high, odd, low, mask);
+    }
+
+    public static BigInteger modPow(BigInteger base, BigInteger exponent, BigInteger m) {
+        return base.modPow(exponent, m);
+    }
+
+    // bases[i]^exponent mod m for every i, in parallel
+    public static long[] modPow(long[] bases, long exponent, long m) {
+        if (m < 1) {
+            throw new IllegalArgumentException("m must be >= 1: " + m);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must be >= 0: " + exponent);
+        }
+        long[] result = new long[bases.length];
+        if ((m & 1) == 0 || m == 1) {
+            IntStream.range(0, bases.length).parallel().forEach(i -> result[i] = modPow(bases[i], exponent, m));
+            return result;
+        }
+        Montgomery mont = new Montgomery(m); // immutable, shared by every thread
+        IntStream.range(0, bases.length).parallel()
+                .forEach(i -> result[i] = mont.modPow(Math.floorMod(bases[i], m), exponent));
+        return result;
+    }
+
+    public static BigInteger[] modPow(BigInteger[] bases, BigInteger exponent, BigInteger m) {
+        BigInteger[] result = new BigInteger[bases.length];
+        IntStream.range(0, bases.length).parallel().forEach(i -> result[i] = bases[i].modPow(exponent, m));
+        return result;
+    }
+
+    // base^exponent mod 2^64: long products simply wrap around
+    private static long powMod2(long base, long exponent) {
+        long result = 1;
+        for (; exponent != 0; exponent >>>= 1) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+        }
+        return result;
+    }
+
+    // The x in [0, odd * 2^s) with x = high (mod odd) and x = low (mod 2^s), mask = 2^s - 1
+    private static long crt(long high, long odd, long low, long mask) {
+        // odd^-1 mod 2^64 by Newton's iteration (each step doubles the correct low bits, see Montgomery)
+        long inverse = odd;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - odd * inverse;
+        }
+        long t = ((low - high) * inverse) & mask;
+        return high + odd * t; // < odd + odd * (2^s - 1) = m
+    }
+}
@@ -0,0 +1,105 @@
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+// Checks Exponentiation against BigInteger, then measures modular powers per second, up to RSA-size numbers.
+// Run: javac Exponentiation.java ExponentiationBenchmark.java Montgomery.java && java ExponentiationBenchmark
+public class ExponentiationBenchmark {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(43);
+
+        // exact powers: every base^e that fits, and the first one that does not must throw
+        for (long base = -20; base <= 20; base++) {
+            BigInteger big = BigInteger.valueOf(base);
+            for (int e = 0; e < 64; e++) {
+                BigInteger expected = big.pow(e);
+                boolean fits = expected.bitLength() < 64;
+                try {
+                    long power = Exponentiation.pow(base, e);
+                    check(fits && power == expected.longValueExact(), base + "^" + e);
+                } catch (ArithmeticException overflow) {
+                    check(!fits, base + "^" + e + " threw although it fits");
+                }
+            }
+        }
+        int overflowed = 1;
+        for (int i = 1; i <= 40; i++) {
+            overflowed *= 3; // the old Power loop
+        }
+        System.out.println("3^40: old int loop " + overflowed + ", pow(BigInteger) " + Exponentiation.pow(BigInteger.valueOf(3), 40));
+
+        // modular powers against BigInteger.modPow, odd and even moduli
+        for (int i = 0; i < 200_000; i++) {
+            long m = i % 3 == 0 ? random.nextLong(1, 1000) : random.nextLong(1, Long.MAX_VALUE);
+            if (i % 5 == 0) {
+                m = (m >>> random.nextInt(0, 8)) << random.nextInt(0, 8); // more even moduli
+                m = Math.max(m & Long.MAX_VALUE, 1);
+            }
+            long base = random.nextLong();
+            long exponent = random.nextLong(Long.MAX_VALUE);
+            long expected = BigInteger.valueOf(base).modPow(BigInteger.valueOf(exponent), BigInteger.valueOf(m)).longValue();
+            check(Exponentiation.modPow(base, exponent, m) == expected, base + "^" + exponent + " mod " + m);
+        }
+        System.out.println("all checks passed");
+
+        // 64-bit: Montgomery vs BigInteger.modPow
+        int count = 200_000;
+        long m = (1L << 62) + 135; // odd
+        long[] bases = new long[count];
+        for (int i = 0; i < count; i++) {
+            bases[i] = random.nextLong(m);
+        }
+        long exponent = random.nextLong(Long.MAX_VALUE);
+        BigInteger bigExponent = BigInteger.valueOf(exponent), bigM = BigInteger.valueOf(m);
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            long sumBig = 0, sumMontgomery = 0, sumBatch = 0;
+            for (long base : bases) {
+                sumBig += BigInteger.valueOf(base).modPow(bigExponent, bigM).longValue();
+            }
+            report("63-bit, BigInteger.modPow", count, start);
+            start = System.nanoTime();
+            for (long base : bases) {
+                sumMontgomery += Exponentiation.modPow(base, exponent, m);
+            }
+            report("63-bit, Montgomery", count, start);
+            start = System.nanoTime();
+            for (long r : Exponentiation.modPow(bases, exponent, m)) {
+                sumBatch += r;
+            }
+            report("63-bit, Montgomery, batch", count, start);
+            check(sumBig == sumMontgomery && sumBig == sumBatch, "63-bit powers");
+        }
+
+        // RSA sizes: modulus and exponent of the same size, one batch of bases
+        Random bits = new Random(43);
+        for (int size : new int[] {1024, 2048, 4096}) {
+            BigInteger modulus = new BigInteger(size, bits).setBit(size - 1).setBit(0);
+            BigInteger e = new BigInteger(size, bits);
+            BigInteger[] batch = new BigInteger[size == 4096 ? 16 : 64];
+            for (int i = 0; i < batch.length; i++) {
+                batch[i] = new BigInteger(size - 1, bits);
+            }
+            long start = System.nanoTime();
+            for (BigInteger base : batch) {
+                Exponentiation.modPow(base, e, modulus);
+            }
+            report(size + "-bit, one by one", batch.length, start);
+            start = System.nanoTime();
+            Exponentiation.modPow(batch, e, modulus);
+            report(size + "-bit, batch", batch.length, start);
+        }
+    }
+
+    private static void report(String label, int operations, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-30s %12.0f powers/s%n", label, operations / seconds);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
@@ -3,23 +3,24 @@ import java.util.Scanner;
 public class Factor {
     public static void main(String[] args) {
         // Declaring variable
-        int n;
+        long n;
         System.out.print("Enter a number: ");
         
         // Scanning user input
         Scanner input = new Scanner(System.in);
-        n = input.nextInt();
+        n = input.nextLong();
         
         // Implementing logic to find factors
+        // Instead of testing every i from 1 to n, the factors are built from the prime factorisation
+        // (see Factorization.java): 360 = 2^3 * 3^2 * 5 -> every 2^a * 3^b * 5^c
         System.out.print("Factors of " + n + " are: ");
-        for (int i = 1; i <= n; i++) //The loop for (int i = 1; i <= n; i++) iterates from 1 to n.
+        for (long factor : Factorization.divisors(n))
         {
-            if (n % i == 0) //If true, i is printed as a factor.
-            {
-                System.out.print(i + " ");
-            }
+            System.out.print(factor + " ");
         }
         
         input.close(); // Closing the Scanner object
     }
 }
+
+//Compile with: javac Factor.java Factorization.java PrimeSieve.java MillerRabin.java Montgomery.java
@@ -1,3 +1,4 @@
+import java.math.BigInteger;
 import java.util.Scanner;
 
 public class Factorial {
@@ -11,13 +12,15 @@ public class Factorial {
         n = input.nextInt();
         
         // Implementing logic to calculate factorial
-        int factorial = 1;
-        for (int i = 1; i <= n; i++) {
-            factorial *= i;
-        }
+        // An int overflows from 13! on, so the exact value is a BigInteger (see BigFactorial.java:
+        // prime swing and product trees instead of multiplying 1 * 2 * ... * n one by one)
+        BigInteger factorial = BigFactorial.factorial(n);
         
         System.out.println("Factorial of " + n + " is: " + factorial);
+        System.out.println("Trailing zeros: " + BigFactorial.trailingZeros(n));
         
         input.close(); // Closing the Scanner object
     }
 }
+
+//Compile with: javac Factorial.java BigFactorial.java PrimeSieve.java Factorization.java MillerRabin.java Montgomery.java
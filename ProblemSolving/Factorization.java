@@ -0,0 +1,286 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Prime factorisation of any long in microseconds (milliseconds for the hardest 62-bit semiprimes).
+//
+// 1. Trial division by the primes below 2^12 (after 2, a "wheel" of odd primes only).
+// 2. What is left is prime (MillerRabin), or split by Pollard's rho in Brent's variant:
+//    iterate x -> x^2 + c (mod n) and look for gcd(|x - y|, n) > 1, which finds a factor p after
+//    about sqrt(p) steps instead of p. Products are taken in Montgomery form, and the gcd is only taken
+//    once per block of 128 differences.
+// 3. Both parts are factored again until every part is prime.
+//
+// primeFactors(BigInteger) does the same for larger numbers (probabilistic primality there).
+// Used by Factor, PerfectNumber and ProjectEuler-Practice/Largest-Prime-Factor.
+// Try it: java FactorizationBenchmark
+public class Factorization {
+
+    private static final int TRIAL_LIMIT = 1 << 12;
+    private static final int[] ODD_PRIMES = PrimeSieve.oddPrimesUpTo(TRIAL_LIMIT);
+    private static final int BLOCK = 128; // differences multiplied together before each gcd
+
+    private Factorization() {
+    }
+
+    // Prime factors of n (n >= 1) in increasing order, repeated by multiplicity: 360 -> [2, 2, 2, 3, 3, 5]
+    public static long[] primeFactors(long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        long[] factors = new long[64]; // a long has at most 63 prime factors
+        int size = 0;
+
+        int twos = Long.numberOfTrailingZeros(n);
+        for (int i = 0; i < twos; i++) {
+            factors[size++] = 2;
+        }
+        n >>= twos;
+
+        for (int p : ODD_PRIMES) {
+            if ((long) p * p > n) {
+                break;
+            }
+            while (n % p == 0) {
+                factors[size++] = p;
+                n /= p;
+            }
+        }
+        if (n > 1) {
+            size = splitLarge(n, factors, size);
+        }
+        Arrays.sort(factors, 0, size);
+        return Arrays.copyOf(factors, size);
+    }
+
+    // {prime, exponent} pairs: 360 -> [[2, 3], [3, 2], [5, 1]]
+    public static long[][] factorize(long n) {
+        long[] factors = primeFactors(n);
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 0; i < factors.length; ) {
+            int j = i;
+            while (j < factors.length && factors[j] == factors[i]) {
+                j++;
+            }
+            pairs.add(new long[] {factors[i], j - i});
+            i = j;
+        }
+        return pairs.toArray(new long[0][]);
+    }
+
+    public static long largestPrimeFactor(long n) {
+        long[] factors = primeFactors(n);
+        return factors.length == 0 ? 1 : factors[factors.length - 1];
+    }
+
+    // All divisors of n in increasing order, built from the factorisation (no loop up to n)
+    public static long[] divisors(long n) {
+        long[][] pairs = factorize(n);
+        int count = 1;
+        for (long[] pair : pairs) {
+            count *= (int) pair[1] + 1;
+        }
+        long[] divisors = new long[count];
+        divisors[0] = 1;
+        int size = 1;
+        for (long[] pair : pairs) {
+            int before = size;
+            long power = 1;
+            for (int e = 1; e <= pair[1]; e++) {
+                power *= pair[0];
+                for (int i = 0; i < before; i++) {
+                    divisors[size++] = divisors[i] * power;
+                }
+            }
+        }
+        Arrays.sort(divisors);
+        return divisors;
+    }
+
+    // sigma(n) = sum of all divisors of n, from the product of (p^(e+1) - 1) / (p - 1); throws if it overflows a long
+    public static long sumOfDivisors(long n) {
+        long sum = 1;
+        for (long[] pair : factorize(n)) {
+            long term = 1, power = 1;
+            for (int e = 1; e <= pair[1]; e++) {
+                power = Math.multiplyExact(power, pair[0]);
+                term = Math.addExact(term, power);
+            }
+            sum = Math.multiplyExact(sum, term);
+        }
+        return sum;
+    }
+
+    // Prime factors of n >= 1 in increasing order, for numbers beyond long
+    public static List<BigInteger> primeFactors(BigInteger n) {
+        if (n.signum() < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        List<BigInteger> factors = new ArrayList<>();
+        if (n.bitLength() < 63) {
+            for (long p : primeFactors(n.longValue())) {
+                factors.add(BigInteger.valueOf(p));
+            }
+            return factors;
+        }
+        int twos = n.getLowestSetBit();
+        for (int i = 0; i < twos; i++) {
+            factors.add(BigInteger.TWO);
+        }
+        n = n.shiftRight(twos);
+        for (int p : ODD_PRIMES) {
+            BigInteger prime = BigInteger.valueOf(p);
+            BigInteger[] qr = n.divideAndRemainder(prime);
+            while (qr[1].signum() == 0) {
+                factors.add(prime);
+                n = qr[0];
+                qr = n.divideAndRemainder(prime);
+            }
+        }
+        splitLarge(n, factors);
+        factors.sort(null);
+        return factors;
+    }
+
+    // n odd, no prime factor below TRIAL_LIMIT
+    private static int splitLarge(long n, long[] factors, int size) {
+        if (n == 1) {
+            return size;
+        }
+        if (n < (long) TRIAL_LIMIT * TRIAL_LIMIT || MillerRabin.isPrime(n)) {
+            factors[size++] = n;
+            return size;
+        }
+        long d = pollardBrent(n);
+        size = splitLarge(d, factors, size);
+        return splitLarge(n / d, factors, size);
+    }
+
+    // A non-trivial factor of the odd composite n
+    static long pollardBrent(long n) {
+        long root = PrimeSieve.isqrt(n);
+        if (root * root == n) {
+            return root; // rho is slow on squares of primes
+        }
+        Montgomery mont = new Montgomery(n);
+        SplittableRandom random = new SplittableRandom(n);
+        while (true) {
+            long c = random.nextLong(1, n);
+            long y = random.nextLong(n);
+            long x = y, ys = y;
+            long q = mont.one();
+            long g = 1;
+            for (long r = 1; g == 1; r <<= 1) {
+                x = y;
+                for (long i = 0; i < r; i++) {
+                    y = step(mont, y, c);
+                }
+                for (long k = 0; k < r && g == 1; k += BLOCK) {
+                    ys = y;
+                    long steps = Math.min(BLOCK, r - k);
+                    for (long i = 0; i < steps; i++) {
+                        y = step(mont, y, c);
+                        q = mont.multiply(q, x > y ? x - y : y - x);
+                    }
+                    g = gcd(q, n);
+                }
+            }
+            if (g == n) {
+                // the block overshot (or q became 0): redo it one difference at a time
+                do {
+                    ys = step(mont, ys, c);
+                    g = gcd(x > ys ? x - ys : ys - x, n);
+                } while (g == 1);
+            }
+            if (g != n) {
+                return g;
+            }
+            // x and y met modulo every factor at once: try another polynomial
+        }
+    }
+
+    private static long step(Montgomery mont, long y, long c) {
+        long s = mont.multiply(y, y) + c; // both < n < 2^63, so the sum fits in 64 unsigned bits
+        return Long.compareUnsigned(s, mont.modulus()) >= 0 ? s - mont.modulus() : s;
+    }
+
+    // binary gcd for 0 <= a, b
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+        while (b != 0) {
+            b >>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        }
+        return a << shift;
+    }
+
+    private static void splitLarge(BigInteger n, List<BigInteger> factors) {
+        if (n.equals(BigInteger.ONE)) {
+            return;
+        }
+        if (n.bitLength() < 63) {
+            for (long p : primeFactors(n.longValue())) {
+                factors.add(BigInteger.valueOf(p));
+            }
+            return;
+        }
+        if (n.isProbablePrime(50)) {
+            factors.add(n);
+            return;
+        }
+        BigInteger d = pollardBrent(n);
+        splitLarge(d, factors);
+        splitLarge(n.divide(d), factors);
+    }
+
+    private static BigInteger pollardBrent(BigInteger n) {
+        BigInteger root = n.sqrt();
+        if (root.multiply(root).equals(n)) {
+            return root;
+        }
+        SplittableRandom random = new SplittableRandom(n.longValue());
+        while (true) {
+            BigInteger c = BigInteger.valueOf(random.nextLong(1, Long.MAX_VALUE));
+            BigInteger y = BigInteger.valueOf(random.nextLong(Long.MAX_VALUE)).mod(n);
+            BigInteger x = y, ys = y, q = BigInteger.ONE, g = BigInteger.ONE;
+            for (long r = 1; g.equals(BigInteger.ONE); r <<= 1) {
+                x = y;
+                for (long i = 0; i < r; i++) {
+                    y = y.multiply(y).add(c).mod(n);
+                }
+                for (long k = 0; k < r && g.equals(BigInteger.ONE); k += BLOCK) {
+                    ys = y;
+                    long steps = Math.min(BLOCK, r - k);
+                    for (long i = 0; i < steps; i++) {
+                        y = y.multiply(y).add(c).mod(n);
+                        q = q.multiply(x.subtract(y).abs()).mod(n);
+                    }
+                    g = q.gcd(n);
+                }
+            }
+            if (g.equals(n)) {
+                do {
+                    ys = ys.multiply(ys).add(c).mod(n);
+                    g = x.subtract(ys).abs().gcd(n);
+                } while (g.equals(BigInteger.ONE));
+            }
+            if (!g.equals(n)) {
+                return g;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Checks Factorization and times it on random longs and on the hard case: semiprimes near 10^18.
+// Run: javac Factorization.java FactorizationBenchmark.java MillerRabin.java Montgomery.java PrimeSieve.java
+//      java FactorizationBenchmark
+public class FactorizationBenchmark {
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(99);
+
+        // every factorisation must multiply back to n and consist of primes
+        for (int i = 0; i < 100_000; i++) {
+            long n = i < 50_000 ? i + 1 : random.nextLong(1, Long.MAX_VALUE);
+            long product = 1;
+            for (long p : Factorization.primeFactors(n)) {
+                check(MillerRabin.isPrime(p), n);
+                product *= p;
+            }
+            check(product == n, n);
+        }
+        check(Factorization.largestPrimeFactor(600851475143L) == 6857, 600851475143L);
+        check(Factorization.sumOfDivisors(8128) == 2 * 8128, 8128);
+        check(Arrays.equals(Factorization.divisors(28), new long[] {1, 2, 4, 7, 14, 28}), 28);
+        // beyond long: (2^61 - 1) * p * 600851475143 with p a 40-bit prime
+        BigInteger big = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE)
+                .multiply(BigInteger.valueOf(randomPrime(random, 1L << 40)))
+                .multiply(BigInteger.valueOf(600851475143L));
+        long start = System.nanoTime();
+        System.out.printf("%s = %s (%.1f ms)%n", big, Factorization.primeFactors(big), (System.nanoTime() - start) / 1e6);
+        System.out.println("all checks passed");
+
+        // random 63-bit numbers
+        long[] numbers = new long[200_000];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = random.nextLong(1, Long.MAX_VALUE);
+        }
+        time("random 63-bit numbers", numbers);
+
+        // semiprimes p * q near 10^18 with p, q near 10^9: the worst case for trial division
+        long[] semiprimes = new long[2_000];
+        for (int i = 0; i < semiprimes.length; i++) {
+            semiprimes[i] = randomPrime(random, 1_000_000_000L) * randomPrime(random, 1_000_000_000L);
+        }
+        time("semiprimes near 10^18", semiprimes);
+
+        // the old trial division on a single such semiprime, for scale
+        long n = semiprimes[0];
+        start = System.nanoTime();
+        long factor = 3;
+        while (n % factor != 0) {
+            factor += 2;
+        }
+        System.out.printf("%-30s %12.1f ms for one number%n", "trial division, semiprime", (System.nanoTime() - start) / 1e6);
+    }
+
+    private static void time(String what, long[] numbers) {
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long sink = 0;
+            for (long n : numbers) {
+                sink += Factorization.largestPrimeFactor(n);
+            }
+            double micros = (System.nanoTime() - start) / 1e3 / numbers.length;
+            System.out.printf("%-30s %12.2f us per number (%d)%n", what, micros, sink & 1);
+        }
+    }
+
+    private static long randomPrime(SplittableRandom random, long around) {
+        long candidate = random.nextLong(around, 2 * around) | 1;
+        while (!MillerRabin.isPrime(candidate)) {
+            candidate += 2;
+        }
+        return candidate;
+    }
+
+    private static void check(boolean ok, long n) {
+        if (!ok) {
+            throw new AssertionError("Wrong factorisation of " + n);
+        }
+    }
+}
@@ -1,9 +1,12 @@
+import java.math.BigInteger;
 import java.util.Scanner;
 
 class Fibonacci {
     public static void main(String[] args) {
         
-        int term, a = 0, b = 1, c;
+        int term;
+        // BigInteger instead of int: an int silently overflows after F(46), a long after F(92)
+        BigInteger a = BigInteger.ZERO, b = BigInteger.ONE, c;
 
         System.out.print("Enter Term: ");
         Scanner sc = new Scanner(System.in);
@@ -16,7 +19,7 @@ class Fibonacci {
             System.out.print(a + " ");
 
             // Calculating the next term in the sequence
-            c = a + b;
+            c = a.add(b);
             a = b;
             b = c;
         }
@@ -25,3 +28,5 @@ class Fibonacci {
         sc.close();
     }
 }
+
+// For a single term without the whole series (F(10^7) in well under a second), see SequenceEngine.java
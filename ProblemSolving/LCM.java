@@ -7,20 +7,15 @@ class LCM {
 
         // Prompt the user to enter two numbers
         System.out.print("Enter any two numbers: ");
-        int a = sc.nextInt(), b = sc.nextInt();
+        long a = sc.nextLong(), b = sc.nextLong();
 
-        // Determine the larger of the two numbers
-        int ans = (a > b) ? a : b;
-
-        // Loop to find the smallest number that can be divided by both numbers
-        while (true) {
-            // Check if 'ans' is divisible by both 'a' and 'b'
-            if (ans % a == 0 && ans % b == 0)
-                break; // If true, break out of the loop
-            ans++; // Increment 'ans' and continue the loop
-        }
+        // LCM(a, b) = a / GCD(a, b) * b with the binary GCD (see NumberTheory.java),
+        // instead of trying ans, ans + 1, ... until both numbers divide it
+        long ans = NumberTheory.lcm(a, b);
 
         // Print the result
         System.out.println("LCM of " + a + " and " + b + " : " + ans);
     }
 }
+
+// Compile with: javac LCM.java NumberTheory.java
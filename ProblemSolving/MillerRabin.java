@@ -0,0 +1,82 @@
+import java.util.stream.IntStream;
+
+// Deterministic primality test for every long (64-bit) number.
+//
+// Miller-Rabin: write n - 1 = d * 2^s with d odd. A prime n satisfies, for every base a, either
+// a^d = 1 or a^(d * 2^r) = -1 (mod n) for some r < s. A composite fails this for most bases; for
+// n < 2^64 it is known that the seven bases below catch every composite (Jim Sinclair's set), and for
+// n < 4,759,123,141 the three bases 2, 7 and 61 are enough.
+//
+// Products are taken with Montgomery multiplication (Montgomery.java), so a test costs a few hundred
+// nanoseconds. Used by CheckPrimeNumber and ProjectEuler-Practice/10001st-Prime. Try it: java MillerRabinBenchmark
+public class MillerRabin {
+
+    private static final long[] BASES_64 = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+    private static final long[] BASES_32 = {2, 7, 61};
+    private static final long BASES_32_LIMIT = 4_759_123_141L;
+
+    // trial division by these first rejects most composites cheaply
+    private static final int[] SMALL_PRIMES = {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61};
+
+    private MillerRabin() {
+    }
+
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        if ((n & 1) == 0) {
+            return n == 2;
+        }
+        for (int p : SMALL_PRIMES) {
+            if (n % p == 0) {
+                return n == p;
+            }
+        }
+        if (n < 67 * 67) {
+            return true; // no prime factor below 67 and n < 67^2
+        }
+
+        Montgomery mont = new Montgomery(n);
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+        long one = mont.one();
+        long minusOne = n - one; // -1 in Montgomery form
+
+        for (long base : n < BASES_32_LIMIT ? BASES_32 : BASES_64) {
+            long a = base % n;
+            if (a == 0) {
+                continue; // base is a multiple of n: says nothing
+            }
+            long x = mont.pow(mont.toMontgomery(a), d);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+            boolean passed = false;
+            for (int r = 1; r < s; r++) {
+                x = mont.multiply(x, x);
+                if (x == minusOne) {
+                    passed = true;
+                    break;
+                }
+            }
+            if (!passed) {
+                return false; // `base` is a witness: n is composite
+            }
+        }
+        return true;
+    }
+
+    // Tests every candidate, in parallel on the fork-join pool
+    public static boolean[] isPrime(long[] candidates) {
+        boolean[] result = new boolean[candidates.length];
+        IntStream.range(0, candidates.length).parallel().forEach(i -> result[i] = isPrime(candidates[i]));
+        return result;
+    }
+
+    // How many of the candidates are prime, in parallel
+    public static long countPrimes(long[] candidates) {
+        return IntStream.range(0, candidates.length).parallel().filter(i -> isPrime(candidates[i])).count();
+    }
+}
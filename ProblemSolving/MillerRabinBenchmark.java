@@ -0,0 +1,102 @@
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+// Checks MillerRabin against BigInteger.isProbablePrime and the sieve, then measures tests per second.
+// Run: javac MillerRabin.java MillerRabinBenchmark.java Montgomery.java PrimeSieve.java && java MillerRabinBenchmark
+public class MillerRabinBenchmark {
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(2024);
+
+        // every n below 10^6 against the sieve
+        long[] primes = PrimeSieve.primes(0, 1_000_000);
+        int next = 0;
+        for (long n = 0; n <= 1_000_000; n++) {
+            boolean expected = next < primes.length && primes[next] == n;
+            if (expected) {
+                next++;
+            }
+            check(MillerRabin.isPrime(n) == expected, n);
+        }
+
+        // random 64-bit numbers and known hard cases against BigInteger (error probability < 2^-100)
+        for (int i = 0; i < 200_000; i++) {
+            long n = random.nextLong(Long.MAX_VALUE);
+            check(MillerRabin.isPrime(n) == BigInteger.valueOf(n).isProbablePrime(100), n);
+        }
+        long[] hard = {
+            3215031751L,              // strong pseudoprime to bases 2, 3, 5, 7
+            4759123141L,              // first number where bases 2, 7, 61 are no longer enough
+            3825123056546413051L,     // strong pseudoprime to the first 9 prime bases
+            9223372036854775783L,     // largest prime below 2^63
+            9223372036854775807L,     // 2^63 - 1 = 7^2 * 73 * ...
+            561, 1105, 1729, 41041,   // Carmichael numbers
+            1000000007L * 1000000009L // semiprime
+        };
+        for (long n : hard) {
+            check(MillerRabin.isPrime(n) == BigInteger.valueOf(n).isProbablePrime(100), n);
+        }
+
+        // the Montgomery arithmetic underneath, on ordinary numbers, against BigInteger
+        for (int i = 0; i < 200_000; i++) {
+            long n = random.nextLong(3, Long.MAX_VALUE) | 1;
+            long a = random.nextLong(Long.MAX_VALUE), b = random.nextLong(Long.MAX_VALUE);
+            long exponent = random.nextLong(Long.MAX_VALUE);
+            Montgomery montgomery = new Montgomery(n);
+            BigInteger bigN = BigInteger.valueOf(n), bigA = BigInteger.valueOf(a);
+            check(montgomery.modMultiply(a, b) == bigA.multiply(BigInteger.valueOf(b)).mod(bigN).longValue(), n);
+            check(montgomery.modPow(a, exponent) == bigA.modPow(BigInteger.valueOf(exponent), bigN).longValue(), n);
+        }
+        System.out.println("all checks passed");
+
+        // throughput: random odd 64-bit candidates
+        long[] candidates = new long[2_000_000];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = random.nextLong(Long.MAX_VALUE) | 1;
+        }
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            long found = 0;
+            for (long n : candidates) {
+                if (MillerRabin.isPrime(n)) {
+                    found++;
+                }
+            }
+            report("sequential", candidates.length, found, start);
+
+            start = System.nanoTime();
+            found = MillerRabin.countPrimes(candidates);
+            report("parallel batch", candidates.length, found, start);
+        }
+
+        // worst case: primes only (every base is tried)
+        long[] bigPrimes = new long[200_000];
+        for (int i = 0, n = 0; n < bigPrimes.length; i++) {
+            long candidate = random.nextLong(Long.MAX_VALUE) | 1;
+            if (BigInteger.valueOf(candidate).isProbablePrime(40)) {
+                bigPrimes[n++] = candidate;
+            }
+        }
+        long start = System.nanoTime();
+        long found = MillerRabin.countPrimes(bigPrimes);
+        report("primes only, parallel", bigPrimes.length, found, start);
+        start = System.nanoTime();
+        found = 0;
+        for (long p : bigPrimes) {
+            if (BigInteger.valueOf(p).isProbablePrime(40)) {
+                found++;
+            }
+        }
+        report("primes only, BigInteger", bigPrimes.length, found, start);
+    }
+
+    private static void report(String what, int tests, long found, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%-25s %,10d primes  %,14.0f tests/s%n", what, found, tests / seconds);
+    }
+
+    private static void check(boolean ok, long n) {
+        if (!ok) {
+            throw new AssertionError("Wrong answer for " + n);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// Montgomery arithmetic modulo an odd n < 2^63: a*b mod n without a 128-bit division.
+//
+// Numbers are kept in "Montgomery form" aR mod n with R = 2^64. The product of two such numbers is
+// reduced with two 64x64-bit multiplications and a shift (REDC) instead of a division by n.
+// Converting in and out costs one multiplication each, so it pays off when many products are
+// taken modulo the same n: modular powers, Miller-Rabin, Pollard rho.
+//
+// Uses Math.multiplyHigh (Java 9+) with a sign correction rather than Math.unsignedMultiplyHigh (Java 18+).
+public final class Montgomery {
+
+    private final long n;
+    private final long nInverse; // -n^-1 mod 2^64
+    private final long one;      // R mod n, i.e. 1 in Montgomery form
+    private final long rSquared; // R^2 mod n, used to convert into Montgomery form
+
+    public Montgomery(long n) {
+        if (n <= 1 || (n & 1) == 0) {
+            throw new IllegalArgumentException("Modulus must be odd and > 1: " + n);
+        }
+        this.n = n;
+
+        // Newton's iteration doubles the number of correct low bits each step: 3 -> 6 -> 12 -> 24 -> 48 -> 96
+        long inverse = n; // n * n = 1 (mod 8) for odd n, so n is its own inverse to 3 bits
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - n * inverse;
+        }
+        this.nInverse = -inverse;
+
+        this.one = Long.remainderUnsigned(-n, n); // 2^64 - n = 2^64 (mod n)
+        long r = one;
+        for (int i = 0; i < 64; i++) { // R * 2^64 = R^2, one doubling at a time (2r < 2n < 2^64, no overflow)
+            r <<= 1;
+            if (Long.compareUnsigned(r, n) >= 0) {
+                r -= n;
+            }
+        }
+        this.rSquared = r;
+    }
+
+    public long modulus() {
+        return n;
+    }
+
+    // 1 in Montgomery form
+    public long one() {
+        return one;
+    }
+
+    // a (0 <= a < n) into Montgomery form
+    public long toMontgomery(long a) {
+        return multiply(a, rSquared);
+    }
+
+    // back to an ordinary number
+    public long fromMontgomery(long aR) {
+        return reduce(0, aR);
+    }
+
+    // (aR * bR) / R mod n = (ab)R mod n, for aR, bR < n
+    public long multiply(long aR, long bR) {
+        return reduce(Math.multiplyHigh(aR, bR), aR * bR); // aR, bR < 2^63: signed high word = unsigned high word
+    }
+
+    // base^exponent with base and result in Montgomery form, exponent >= 0 (treated as unsigned)
+    public long pow(long baseR, long exponent) {
+        long result = one;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result = multiply(result, baseR);
+            }
+            baseR = multiply(baseR, baseR);
+            exponent >>>= 1;
+        }
+        return result;
+    }
+
+    // a^exponent mod n for ordinary numbers (0 <= a)
+    public long modPow(long a, long exponent) {
+        return fromMontgomery(pow(toMontgomery(a % n), exponent));
+    }
+
+    // a * b mod n for ordinary numbers (0 <= a, b)
+    public long modMultiply(long a, long b) {
+        return multiply(toMontgomery(a % n), b % n); // (aR * b) / R = ab: only one side needs converting
+    }
+
+    // REDC: (high * 2^64 + low) / 2^64 mod n, for high < n
+    private long reduce(long high, long low) {
+        long m = low * nInverse;                                      // low + m*n = 0 (mod 2^64)
+        long mnHigh = Math.multiplyHigh(m, n) + ((m >> 63) & n);      // unsigned high word of m*n (n >= 0)
+        long t = high + mnHigh + (low != 0 ? 1 : 0);                  // carry out of low + (m*n mod 2^64)
+        return Long.compareUnsigned(t, n) >= 0 ? t - n : t;
+    }
+}
@@ -0,0 +1,129 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+
+// gcd, lcm and modular inverses for long, and gcd / lcm of whole arrays.
+//
+// - gcd(a, b): Stein's binary gcd. Instead of division it strips common factors of 2 (one numberOfTrailingZeros
+//   and shift each) and subtracts the smaller odd number from the larger, so it takes O(log max) steps.
+//   Subtracting without the halving (the old CommonDivisor) needs max/min steps: 10^9 for gcd(10^9, 1).
+// - lcm(a, b) = a / gcd(a, b) * b, dividing first; Math.multiplyExact throws ArithmeticException when it does
+//   not fit instead of returning a wrapped-around number.
+// - extendedGcd(a, b) = {g, x, y} with a*x + b*y = g, and modInverse(a, m) from it.
+// - gcd(long[]) / lcm(long[]): a parallel reduction (both are associative, with identities 0 and 1).
+//   lcmBig(long[]) keeps going in BigInteger where a long would overflow.
+// - lcmUpTo(n) = lcm(1, 2, ..., n): the product of the largest power p^k <= n of every prime p <= n,
+//   multiplied as a product tree (BigFactorial), for n up to 10^6 and beyond.
+//
+// Used by CommonDivisor, LCM and ProjectEuler-Practice/Smallest-Multiple. Try it: java NumberTheoryBenchmark
+public class NumberTheory {
+
+    private NumberTheory() {
+    }
+
+    // gcd(|a|, |b|), gcd(0, 0) = 0; ArithmeticException if the answer is 2^63 (only for Long.MIN_VALUE)
+    public static long gcd(long a, long b) {
+        if (a == 0 || b == 0) {
+            return Math.absExact(a | b); // the other one (both are 0 or only one is non-zero)
+        }
+        int shift = Long.numberOfTrailingZeros(a | b); // the power of 2 both share
+        a = Math.abs(a >> Long.numberOfTrailingZeros(a)); // odd now, so even Long.MIN_VALUE has become small
+        b = Math.abs(b >> Long.numberOfTrailingZeros(b));
+        while (a != b) {
+            if (a > b) {
+                a -= b;
+                a >>= Long.numberOfTrailingZeros(a);
+            } else {
+                b -= a;
+                b >>= Long.numberOfTrailingZeros(b);
+            }
+        }
+        return a << shift;
+    }
+
+    // Smallest non-negative number that both a and b divide, lcm(a, 0) = 0
+    public static long lcm(long a, long b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return Math.multiplyExact(Math.absExact(a / gcd(a, b)), Math.absExact(b));
+    }
+
+    // {g, x, y} with a*x + b*y = g = gcd(a, b), for a, b >= 0
+    public static long[] extendedGcd(long a, long b) {
+        if (a < 0 || b < 0) {
+            throw new IllegalArgumentException("a and b must be >= 0: " + a + ", " + b);
+        }
+        long oldR = a, r = b;
+        long oldX = 1, x = 0;
+        long oldY = 0, y = 1;
+        while (r != 0) {
+            long q = oldR / r;
+            long t = oldR - q * r;
+            oldR = r;
+            r = t;
+            t = oldX - q * x; // |x|, |y| stay below b/g and a/g, so nothing overflows
+            oldX = x;
+            x = t;
+            t = oldY - q * y;
+            oldY = y;
+            y = t;
+        }
+        return new long[] {oldR, oldX, oldY};
+    }
+
+    // x in [0, m) with a*x = 1 (mod m); ArithmeticException if gcd(a, m) != 1
+    public static long modInverse(long a, long m) {
+        if (m < 1) {
+            throw new IllegalArgumentException("m must be >= 1: " + m);
+        }
+        long[] egcd = extendedGcd(Math.floorMod(a, m), m);
+        if (egcd[0] != 1) {
+            throw new ArithmeticException(a + " has no inverse modulo " + m + " (gcd " + egcd[0] + ")");
+        }
+        return Math.floorMod(egcd[1], m);
+    }
+
+    // gcd of all values (0 for an empty array), in parallel
+    public static long gcd(long[] values) {
+        return Arrays.stream(values).parallel().reduce(0, NumberTheory::gcd);
+    }
+
+    // lcm of all values (1 for an empty array), in parallel; ArithmeticException if it does not fit a long
+    public static long lcm(long[] values) {
+        return Arrays.stream(values).parallel().reduce(1, NumberTheory::lcm);
+    }
+
+    // lcm of all values as a BigInteger, in parallel; never overflows
+    public static BigInteger lcmBig(long[] values) {
+        return Arrays.stream(values).parallel()
+                .mapToObj(BigInteger::valueOf)
+                .reduce(BigInteger.ONE, NumberTheory::lcm);
+    }
+
+    public static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a.signum() == 0 || b.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+        return a.divide(a.gcd(b)).multiply(b).abs();
+    }
+
+    // lcm(1, 2, ..., n), n >= 1
+    public static BigInteger lcmUpTo(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        int[] primes = PrimeSieve.primesUpTo(n);
+        if (primes.length == 0) {
+            return BigInteger.ONE;
+        }
+        long[] powers = new long[primes.length];
+        for (int i = 0; i < primes.length; i++) {
+            long power = primes[i];
+            while (power * primes[i] <= n) {
+                power *= primes[i];
+            }
+            powers[i] = power;
+        }
+        return BigFactorial.product(BigFactorial.pack(powers, powers.length), true);
+    }
+}
@@ -0,0 +1,111 @@
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+// Checks NumberTheory against BigInteger and times it against the old CommonDivisor loop (repeated subtraction).
+// Run: javac NumberTheory.java NumberTheoryBenchmark.java BigFactorial.java PrimeSieve.java Factorization.java MillerRabin.java Montgomery.java
+//      java NumberTheoryBenchmark
+public class NumberTheoryBenchmark {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(44);
+
+        // random pairs of every size and sign against BigInteger.gcd / modInverse
+        for (int i = 0; i < 1_000_000; i++) {
+            long a = random.nextLong() >> random.nextInt(64);
+            long b = random.nextLong() >> random.nextInt(64);
+            BigInteger ba = BigInteger.valueOf(a), bb = BigInteger.valueOf(b);
+            long g = NumberTheory.gcd(a, b);
+            check(g == ba.gcd(bb).longValueExact(), "gcd(" + a + ", " + b + ")");
+            long[] egcd = NumberTheory.extendedGcd(Math.abs(a >> 1), Math.abs(b >> 1));
+            check(BigInteger.valueOf(Math.abs(a >> 1)).multiply(BigInteger.valueOf(egcd[1]))
+                    .add(BigInteger.valueOf(Math.abs(b >> 1)).multiply(BigInteger.valueOf(egcd[2])))
+                    .equals(BigInteger.valueOf(egcd[0])), "extendedGcd(" + a + ", " + b + ")");
+            long m = Math.max(Math.abs(b >> 1), 1);
+            if (ba.gcd(BigInteger.valueOf(m)).equals(BigInteger.ONE)) {
+                check(NumberTheory.modInverse(a, m) == ba.modInverse(BigInteger.valueOf(m)).longValueExact(), a + "^-1 mod " + m);
+            }
+        }
+        check(NumberTheory.gcd(Long.MIN_VALUE, 6) == 2 && NumberTheory.gcd(0, -5) == 5 && NumberTheory.lcm(-4, 6) == 12, "signs");
+        check(NumberTheory.lcmUpTo(20).longValueExact() == 232792560L, "lcm(1..20)");
+        BigInteger running = BigInteger.ONE;
+        for (int n = 1; n <= 2000; n++) {
+            running = NumberTheory.lcm(running, BigInteger.valueOf(n));
+            check(NumberTheory.lcmUpTo(n).equals(running), "lcm(1.." + n + ")");
+        }
+        System.out.println("all checks passed");
+
+        // gcd(10^9, 1): the old loop vs Stein
+        long start = System.nanoTime();
+        long n1 = 1_000_000_000, n2 = 1;
+        while (n1 != n2) {
+            if (n1 > n2) {
+                n1 = n1 - n2;
+            } else {
+                n2 = n2 - n1;
+            }
+        }
+        report("gcd(10^9, 1), repeated subtraction", String.valueOf(n2), start);
+        start = System.nanoTime();
+        report("gcd(10^9, 1), binary gcd", String.valueOf(NumberTheory.gcd(1_000_000_000, 1)), start);
+
+        // throughput on random 63-bit pairs: binary gcd vs Euclid's remainders
+        int count = 5_000_000;
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextLong(Long.MAX_VALUE);
+        }
+        for (int run = 0; run < 3; run++) {
+            start = System.nanoTime();
+            long sum = 0;
+            for (int i = 1; i < count; i++) {
+                sum += NumberTheory.gcd(values[i - 1], values[i]);
+            }
+            report("5M binary gcds", String.valueOf(sum), start);
+            start = System.nanoTime();
+            sum = 0;
+            for (int i = 1; i < count; i++) {
+                sum += euclid(values[i - 1], values[i]);
+            }
+            report("5M Euclid gcds", String.valueOf(sum), start);
+        }
+
+        // whole arrays: gcd of multiples of a common factor, lcm of small numbers
+        long[] multiples = new long[10_000_000];
+        for (int i = 0; i < multiples.length; i++) {
+            multiples[i] = 5040L * random.nextLong(1, 1L << 40);
+        }
+        start = System.nanoTime();
+        report("gcd of 10^7 values, parallel", String.valueOf(NumberTheory.gcd(multiples)), start);
+        long[] small = new long[10_000_000];
+        for (int i = 0; i < small.length; i++) {
+            small[i] = random.nextLong(1, 41);
+        }
+        start = System.nanoTime();
+        report("lcm of 10^7 values in [1, 40], parallel", String.valueOf(NumberTheory.lcm(small)), start);
+        check(NumberTheory.lcm(small) == NumberTheory.lcmUpTo(40).longValueExact(), "lcm of the small values");
+        check(NumberTheory.lcmBig(small).equals(NumberTheory.lcmUpTo(40)), "lcmBig of the small values");
+
+        start = System.nanoTime();
+        BigInteger big = NumberTheory.lcmUpTo(1_000_000);
+        report("lcm(1..10^6), prime powers", big.bitLength() + " bits", start);
+    }
+
+    private static long euclid(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static void report(String label, String value, long start) {
+        System.out.printf("%-45s %10.1f ms  %s%n", label, (System.nanoTime() - start) / 1e6, value);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
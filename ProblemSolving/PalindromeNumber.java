@@ -4,23 +4,16 @@ public class PalindromeNumber {
 	public static void main(String[] args) {
 		
 		//declaring number 
-		int n, c, r, sum = 0;
+		long n, c;
 		System.out.print("Enter number: ");
 		
 		//scanning user input
 		Scanner input = new Scanner(System.in);
-		n = input.nextInt();
+		n = input.nextLong();
 		c = n;
 		
-		//implementing logic
-		while (n>0 ) {
-			r = n%10;
-			sum = (sum*10) + r;
-			n = n/10;			
-		}
-		
-		//checking if given number is palindrome or nor
-		if (c == sum)
+		//checking if given number is palindrome or nor: reversed two digits per step, no overflow for 19 digits
+		if (DigitUtils.isPalindrome(c))
 		{
 			System.out.print("The given number "+ c +" is Palindorme");
 		}
@@ -30,4 +23,6 @@ public class PalindromeNumber {
 		}
 		
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac PalindromeNumber.java DigitUtils.java
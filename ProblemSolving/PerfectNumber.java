@@ -6,19 +6,16 @@ public class PerfectNumber {
 	public static void main (String[] args) {
 		
 		//declaring variable
-		int n, sum = 0;
+		long n, sum;
 		System.out.print("Enter number: ");
 		
 		//scanning user input
 		Scanner input = new Scanner (System.in);
-		n = input.nextInt();
+		n = input.nextLong();
 		
-		//implementing logic
-		for (int i = 1; i < n; i++) {
-			if (n%i == 0) {
-				sum = sum + i;
-			}
-		}
+		//implementing logic: sum of all divisors from the prime factorisation (see Factorization.java),
+		//minus n itself, instead of dividing n by every i < n
+		sum = Factorization.sumOfDivisors(n) - n;
 		
 		if (n == sum) {
 			System.out.print("The number "+ n +" is perfect number");
@@ -28,4 +25,7 @@ public class PerfectNumber {
         
         input.close(); // Closing the Scanner object
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac PerfectNumber.java Factorization.java PrimeSieve.java MillerRabin.java Montgomery.java
+//To classify every number up to N at once (perfect, abundant, deficient, amicable), see DivisorSieve.java
@@ -1,9 +1,10 @@
 /* Print Power of Integer */
 
+import java.math.BigInteger;
 import java.util.Scanner;
 public class Power {
 	public static void main (String[] args) {
-		int n,p,result=1; //result = 1; in multiply we use '1' as anything can be multiply by '1'
+		int n,p;
 		
 		System.out.print("Enter Number: ");		
 		Scanner input = new Scanner(System.in);
@@ -12,10 +13,14 @@ public class Power {
 		System.out.print("Enter power: ");
 		p = input.nextInt();
 		
-		for(int i = 1; i<=p; i++) {
-			result = n*result;
+		//square-and-multiply (see Exponentiation.java): about 2*log2(p) multiplications instead of p,
+		//and a long that throws on overflow instead of an int that silently wraps around
+		try {
+			System.out.print(Exponentiation.pow(n, p));
+		} catch (ArithmeticException tooBig) {
+			System.out.print(Exponentiation.pow(BigInteger.valueOf(n), p));
 		}
-		
-		System.out.print(result);
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac Power.java Exponentiation.java Montgomery.java
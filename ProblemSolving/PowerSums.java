@@ -0,0 +1,212 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Sums over 1..n in closed form, so the time does not depend on n (n up to Long.MAX_VALUE):
+//
+// - powerSum(n, p) = 1^p + 2^p + ... + n^p by Faulhaber's formula,
+//   (1 / (p + 1)) * sum over j of C(p + 1, j) * B_j * n^(p + 1 - j), with the Bernoulli numbers B_j (B_1 = +1/2)
+//   as exact fractions. p = 1 and p = 2 are the familiar n(n+1)/2 and n(n+1)(2n+1)/6.
+// - countMultiples / sumOfMultiples / sumOfPowersOfMultiples(divisors, n, ...): the numbers <= n divisible by at
+//   least one of the divisors, by inclusion-exclusion. The multiples of m up to n are m, 2m, ..., (n/m)m, so
+//   their sum is m * (n/m)(n/m + 1)/2; a set of divisors counts with the sign (-1)^(size + 1) and its lcm as m.
+//   Subsets are enumerated depth-first, so a subset whose lcm is already beyond n is skipped with all the
+//   subsets that contain it; at most 2^k subsets for k divisors, however large n is.
+// - sumOfMultiples adds in 128-bit integers (two longs, high half from Math.multiplyHigh). The partial sums may
+//   wrap around, but the answer is below 2^127, so arithmetic modulo 2^128 still ends on the exact value.
+//
+// Used by ProjectEuler-Practice/Multiples-of-3-or-5 and Sum-Square-Difference. Try it: java PowerSumsBenchmark
+public class PowerSums {
+
+    // Bernoulli numbers B_0, B_1, ... (B_1 = +1/2) as reduced fractions, grown on demand
+    private static final List<BigInteger[]> BERNOULLI = new ArrayList<>();
+
+    private PowerSums() {
+    }
+
+    // 1^p + 2^p + ... + n^p, n >= 0, p >= 0 (0^0 is not in the sum, so powerSum(n, 0) = n)
+    public static BigInteger powerSum(long n, int p) {
+        if (n < 0 || p < 0) {
+            throw new IllegalArgumentException("n and p must be >= 0: " + n + ", " + p);
+        }
+        return evaluate(faulhaber(p), n);
+    }
+
+    // The polynomial S_p(n) = 1^p + ... + n^p as {c_0, ..., c_p, D}: S_p(n) = (c_0 n^(p+1) + ... + c_p n) / D,
+    // with c_j = C(p + 1, j) * B_j * D / (p + 1) over the common denominator D
+    private static BigInteger[] faulhaber(int p) {
+        BigInteger[][] b = bernoulli(p);
+        BigInteger lcm = BigInteger.ONE; // of the denominators of B_0..B_p
+        for (BigInteger[] fraction : b) {
+            lcm = lcm.divide(lcm.gcd(fraction[1])).multiply(fraction[1]);
+        }
+        BigInteger[] polynomial = new BigInteger[p + 2];
+        BigInteger binomial = BigInteger.ONE; // C(p + 1, j)
+        for (int j = 0; j <= p; j++) {
+            polynomial[j] = binomial.multiply(b[j][0]).multiply(lcm.divide(b[j][1]));
+            binomial = binomial.multiply(BigInteger.valueOf(p + 1 - j)).divide(BigInteger.valueOf(j + 1));
+        }
+        polynomial[p + 1] = lcm.multiply(BigInteger.valueOf(p + 1));
+        return polynomial;
+    }
+
+    // Horner over n^(p+1), n^p, ..., n^1, then the exact division by D
+    private static BigInteger evaluate(BigInteger[] polynomial, long n) {
+        BigInteger bigN = BigInteger.valueOf(n);
+        BigInteger sum = BigInteger.ZERO;
+        for (int j = 0; j < polynomial.length - 1; j++) {
+            sum = sum.multiply(bigN).add(polynomial[j]);
+        }
+        return sum.multiply(bigN).divide(polynomial[polynomial.length - 1]);
+    }
+
+    // How many of 1..n are divisible by at least one of the divisors (all >= 1)
+    public static long countMultiples(long[] divisors, long n) {
+        long[] d = reduce(divisors, n);
+        return countFrom(d, 0, 1, n);
+    }
+
+    // Sum of the numbers in 1..n divisible by at least one of the divisors (all >= 1)
+    public static BigInteger sumOfMultiples(long[] divisors, long n) {
+        long[] d = reduce(divisors, n);
+        long[] sum = new long[2]; // {high, low} of a 128-bit integer
+        sumFrom(d, 0, 1, false, n, sum);
+        return BigInteger.valueOf(sum[0]).shiftLeft(64).add(unsigned(sum[1]));
+    }
+
+    // Sum of x^p over the numbers x in 1..n divisible by at least one of the divisors (all >= 1)
+    public static BigInteger sumOfPowersOfMultiples(long[] divisors, long n, int p) {
+        if (p < 0) {
+            throw new IllegalArgumentException("p must be >= 0: " + p);
+        }
+        long[] d = reduce(divisors, n);
+        return powersFrom(d, 0, 1, false, n, p, faulhaber(p));
+    }
+
+    // Sorted, without duplicates, without divisors > n and without multiples of another divisor (they add nothing)
+    private static long[] reduce(long[] divisors, long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        long[] sorted = divisors.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && sorted[0] < 1) {
+            throw new IllegalArgumentException("divisors must be >= 1: " + sorted[0]);
+        }
+        int count = 0;
+        for (long d : sorted) {
+            if (d > n) {
+                break;
+            }
+            boolean redundant = false;
+            for (int i = 0; i < count && !redundant; i++) {
+                redundant = d % sorted[i] == 0;
+            }
+            if (!redundant) {
+                sorted[count++] = d;
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    // lcm(a, b) if it is <= n, otherwise 0
+    private static long lcmUpTo(long a, long b, long n) {
+        long quotient = a / NumberTheory.gcd(a, b);
+        return quotient > n / b ? 0 : quotient * b;
+    }
+
+    // Subsets that add divisors from index `from` on to a subset with lcm `m` (odd size has the + sign):
+    // count(m) - count of the subsets below each next divisor, which flips the sign at every level
+    private static long countFrom(long[] d, int from, long m, long n) {
+        long count = 0;
+        for (int i = from; i < d.length; i++) {
+            long next = lcmUpTo(m, d[i], n);
+            if (next != 0) {
+                count += n / next - countFrom(d, i + 1, next, n);
+            }
+        }
+        return count;
+    }
+
+    private static void sumFrom(long[] d, int from, long m, boolean negative, long n, long[] sum) {
+        for (int i = from; i < d.length; i++) {
+            long next = lcmUpTo(m, d[i], n);
+            if (next != 0) {
+                addMultiples(next, n, negative, sum);
+                sumFrom(d, i + 1, next, !negative, n, sum);
+            }
+        }
+    }
+
+    private static BigInteger powersFrom(long[] d, int from, long m, boolean negative, long n, int p,
+                                         BigInteger[] polynomial) {
+        BigInteger sum = BigInteger.ZERO;
+        for (int i = from; i < d.length; i++) {
+            long next = lcmUpTo(m, d[i], n);
+            if (next != 0) {
+                // (m x)^p summed over x = 1..n/m
+                BigInteger term = BigInteger.valueOf(next).pow(p).multiply(evaluate(polynomial, n / next));
+                sum = negative ? sum.subtract(term) : sum.add(term);
+                sum = sum.add(powersFrom(d, i + 1, next, !negative, n, p, polynomial));
+            }
+        }
+        return sum;
+    }
+
+    // sum += (or -=) m * c(c + 1)/2 with c = n / m, in 128 bits
+    private static void addMultiples(long m, long n, boolean negative, long[] sum) {
+        long c = n / m;
+        // halve the even one of c and c + 1 first; c + 1 = 2^63 is fine as an unsigned long
+        long a = (c & 1) == 0 ? c >>> 1 : c;
+        long b = (c & 1) == 0 ? c + 1 : (c + 1) >>> 1;
+        long high = unsignedMultiplyHigh(a, b), low = a * b;
+        // times m; the product is at most n(c + 1)/2 < 2^126
+        high = high * m + unsignedMultiplyHigh(low, m);
+        low = low * m;
+        if (negative) {
+            long borrow = Long.compareUnsigned(sum[1], low) < 0 ? 1 : 0;
+            sum[1] -= low;
+            sum[0] -= high + borrow;
+        } else {
+            sum[1] += low;
+            long carry = Long.compareUnsigned(sum[1], low) < 0 ? 1 : 0;
+            sum[0] += high + carry;
+        }
+    }
+
+    // the high 64 bits of the unsigned 128-bit product (Math.unsignedMultiplyHigh only exists from Java 18 on)
+    private static long unsignedMultiplyHigh(long a, long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    private static BigInteger unsigned(long value) {
+        BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return value < 0 ? result.setBit(63) : result;
+    }
+
+    // {numerator, denominator} of B_0..B_p, by the Akiyama-Tanigawa algorithm (which gives B_1 = +1/2)
+    private static synchronized BigInteger[][] bernoulli(int p) {
+        if (BERNOULLI.size() <= p) {
+            int size = Math.max(p + 1, 2 * BERNOULLI.size());
+            BERNOULLI.clear();
+            BigInteger[] numerators = new BigInteger[size], denominators = new BigInteger[size];
+            for (int m = 0; m < size; m++) {
+                numerators[m] = BigInteger.ONE;
+                denominators[m] = BigInteger.valueOf(m + 1);
+                for (int j = m; j >= 1; j--) {
+                    // a[j - 1] = j * (a[j - 1] - a[j])
+                    BigInteger numerator = numerators[j - 1].multiply(denominators[j])
+                            .subtract(numerators[j].multiply(denominators[j - 1]))
+                            .multiply(BigInteger.valueOf(j));
+                    BigInteger denominator = denominators[j - 1].multiply(denominators[j]);
+                    BigInteger gcd = numerator.gcd(denominator);
+                    numerators[j - 1] = numerator.divide(gcd);
+                    denominators[j - 1] = denominator.divide(gcd);
+                }
+                BERNOULLI.add(new BigInteger[] {numerators[0], denominators[0]});
+            }
+        }
+        return BERNOULLI.subList(0, p + 1).toArray(new BigInteger[0][]);
+    }
+}
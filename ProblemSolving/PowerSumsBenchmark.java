@@ -0,0 +1,113 @@
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+// Checks PowerSums against plain loops, then times the old loop against the closed forms for growing n.
+// Run: javac PowerSums.java PowerSumsBenchmark.java NumberTheory.java BigFactorial.java PrimeSieve.java Factorization.java MillerRabin.java Montgomery.java
+//      java PowerSumsBenchmark
+public class PowerSumsBenchmark {
+
+    public static void main(String[] args) {
+        SplittableRandom random = new SplittableRandom(47);
+
+        // Faulhaber against adding the powers one by one
+        for (int p = 0; p <= 30; p++) {
+            BigInteger sum = BigInteger.ZERO;
+            for (int n = 0; n <= 300; n++) {
+                if (n > 0) {
+                    sum = sum.add(BigInteger.valueOf(n).pow(p));
+                }
+                check(PowerSums.powerSum(n, p).equals(sum), "powerSum(" + n + ", " + p + ")");
+            }
+        }
+
+        // inclusion-exclusion against testing every number
+        for (int i = 0; i < 3000; i++) {
+            long[] divisors = new long[random.nextInt(0, 7)];
+            for (int j = 0; j < divisors.length; j++) {
+                divisors[j] = random.nextLong(1, 60);
+            }
+            long n = random.nextLong(0, 2000);
+            int p = random.nextInt(0, 4);
+            long count = 0;
+            BigInteger sum = BigInteger.ZERO, powers = BigInteger.ZERO;
+            for (long x = 1; x <= n; x++) {
+                for (long d : divisors) {
+                    if (x % d == 0) {
+                        count++;
+                        sum = sum.add(BigInteger.valueOf(x));
+                        powers = powers.add(BigInteger.valueOf(x).pow(p));
+                        break;
+                    }
+                }
+            }
+            check(PowerSums.countMultiples(divisors, n) == count, "count " + n);
+            check(PowerSums.sumOfMultiples(divisors, n).equals(sum), "sum " + n);
+            check(PowerSums.sumOfPowersOfMultiples(divisors, n, p).equals(powers), "powers " + n + ", " + p);
+        }
+
+        // 128-bit sums against BigInteger, up to n = Long.MAX_VALUE
+        for (int i = 0; i < 2000; i++) {
+            long[] divisors = new long[random.nextInt(1, 9)];
+            for (int j = 0; j < divisors.length; j++) {
+                divisors[j] = random.nextInt(4) == 0 ? random.nextLong(1, Long.MAX_VALUE) : random.nextLong(1, 1000);
+            }
+            long n = i == 0 ? Long.MAX_VALUE : random.nextLong(Long.MAX_VALUE);
+            check(PowerSums.sumOfMultiples(divisors, n).equals(PowerSums.sumOfPowersOfMultiples(divisors, n, 1)),
+                    "128-bit sum below " + n);
+        }
+        check(PowerSums.sumOfMultiples(new long[] {3, 5}, 999).longValueExact() == 233168, "Project Euler 1");
+        System.out.println("all checks passed");
+
+        // multiples of 3 or 5: the old loop against the closed form
+        long[] threeFive = {3, 5};
+        for (long n = 1_000; n <= 1_000_000_000L; n *= 1000) {
+            long start = System.nanoTime();
+            long sum = 0;
+            for (long x = 1; x <= n; x++) {
+                if (x % 3 == 0 || x % 5 == 0) {
+                    sum += x;
+                }
+            }
+            report("{3, 5} up to " + n + ", loop", String.valueOf(sum), start);
+            start = System.nanoTime();
+            report("{3, 5} up to " + n + ", closed form", PowerSums.sumOfMultiples(threeFive, n).toString(), start);
+        }
+
+        // the first k primes as divisors up to 10^18: 2^k subsets at most, fewer once lcms pass n
+        long n = 1_000_000_000_000_000_000L;
+        int[] primes = PrimeSieve.primesUpTo(100);
+        for (int k : new int[] {2, 10, 20, 25}) {
+            long[] divisors = new long[k];
+            for (int j = 0; j < k; j++) {
+                divisors[j] = primes[j];
+            }
+            for (int run = 0; run < 3; run++) {
+                long start = System.nanoTime();
+                BigInteger sum = PowerSums.sumOfMultiples(divisors, n);
+                if (run == 2) {
+                    report("first " + k + " primes up to 10^18, sum", sum.toString(), start);
+                }
+            }
+            long start = System.nanoTime();
+            BigInteger squares = PowerSums.sumOfPowersOfMultiples(divisors, n, 2);
+            report("first " + k + " primes up to 10^18, squares", squares.bitLength() + " bits", start);
+        }
+
+        // large powers: 1^p + ... + (10^18)^p
+        for (int p : new int[] {2, 10, 100, 500}) {
+            long start = System.nanoTime();
+            BigInteger sum = PowerSums.powerSum(n, p);
+            report("powerSum(10^18, " + p + ")", sum.bitLength() + " bits", start);
+        }
+    }
+
+    private static void report(String label, String result, long start) {
+        System.out.printf("%-42s %10.3f ms  %s%n", label, (System.nanoTime() - start) / 1e6, result);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+// Counts primes without listing them: pi(10^12) = 37,607,912,018 in a fraction of a second.
+//
+// - pi(x):       Meissel-Lehmer formula. It only needs pi() of numbers up to about sqrt(x) (a lookup table)
+//                and phi(x, a) = how many n <= x have no prime factor among the first a primes.
+// - phi(x, a):   for a <= 7 from a cached table, using phi(x + P, a) = phi(x, a) + phi(P, a) where
+//                P = 2*3*5*7*11*13*17 = 510510; above that by the recursion phi(x, a) = phi(x, a-1) - phi(x/p_a, a-1).
+// - nthPrime(n): estimates p_n, corrects the estimate with pi() and then sieves only the narrow window
+//                between the estimate and the answer (PrimeSieve).
+// - piLucy(n):   Lucy_Hedgehog's O(n^(3/4)) method, independent of the above; used to cross-check it.
+//
+// The tables (about 40 MB) are built on first use and shared afterwards. Try it: java PrimeCountingBenchmark
+public class PrimeCounting {
+
+    // pi() and the primes are tabulated below this bound
+    private static final int TABLE_LIMIT = 1 << 23;
+
+    // phi(x, a) for a <= PHI_TABLE_PRIMES is read from the primorial tables
+    private static final int PHI_TABLE_PRIMES = 7;
+
+    private PrimeCounting() {
+    }
+
+    // Number of primes <= x, for x < TABLE_LIMIT^2 (about 7 * 10^13)
+    public static long pi(long x) {
+        if (x < TABLE_LIMIT) {
+            return x < 2 ? 0 : Tables.PI[(int) x];
+        }
+        if (x / TABLE_LIMIT >= TABLE_LIMIT) {
+            throw new IllegalArgumentException("x too large for the prime tables: " + x);
+        }
+        int a = (int) pi(iroot(x, 4));
+        int b = (int) pi(PrimeSieve.isqrt(x));
+        int c = (int) pi(iroot(x, 3));
+
+        long sum = phi(x, a) + (long) (b + a - 2) * (b - a + 1) / 2;
+        int[] p = Tables.PRIMES;
+        for (int i = a + 1; i <= b; i++) {
+            long w = x / p[i];
+            sum -= pi(w);
+            if (i <= c) {
+                int limit = (int) pi(PrimeSieve.isqrt(w));
+                for (int j = i; j <= limit; j++) {
+                    sum -= pi(w / p[j]) - (j - 1);
+                }
+            }
+        }
+        return sum;
+    }
+
+    // How many n in [1, x] are not divisible by any of the first a primes
+    public static long phi(long x, int a) {
+        if (a == 0 || x == 0) {
+            return x;
+        }
+        if (a <= PHI_TABLE_PRIMES) {
+            int period = Tables.PRIMORIAL[a];
+            return (x / period) * Tables.PHI[a][period - 1] + Tables.PHI[a][(int) (x % period)];
+        }
+        int[] p = Tables.PRIMES;
+        if (x < p[a + 1]) {
+            return 1; // only 1 is left
+        }
+        if (x < TABLE_LIMIT && (long) p[a + 1] * p[a + 1] > x) {
+            return Tables.PI[(int) x] - a + 1; // 1 and the primes above p_a
+        }
+        return phi(x, a - 1) - phi(x / p[a], a - 1);
+    }
+
+    // The n-th prime (nthPrime(1) = 2)
+    public static long nthPrime(long n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        if (n < Tables.PRIMES.length - 1) {
+            return Tables.PRIMES[(int) n];
+        }
+
+        // estimate (Cipolla), kept inside the Rosser bounds n(ln n + ln ln n - 1) < p_n < n(ln n + ln ln n)
+        double ln = Math.log(n);
+        double lnln = Math.log(ln);
+        long lower = (long) (n * (ln + lnln - 1));
+        long upper = (long) Math.ceil(n * (ln + lnln)) + 1;
+        long guess = (long) (n * (ln + lnln - 1 + (lnln - 2) / ln));
+        guess = Math.max(lower, Math.min(upper, guess));
+
+        long counted = pi(guess);
+        // the answer is about |n - counted| * ln(guess) away; sieve windows of at least that size
+        long window = Math.max(1 << 16, (long) (Math.abs(n - counted) * Math.log(guess) * 1.25));
+        if (counted >= n) {
+            // walk down: the answer is the (counted - n + 1)-th prime <= guess, counting from guess
+            long skip = counted - n; // primes to pass before the answer
+            long hi = guess;
+            while (true) {
+                long lo = Math.max(2, hi - window + 1);
+                long[] primes = PrimeSieve.primes(lo, hi);
+                if (skip < primes.length) {
+                    return primes[primes.length - 1 - (int) skip];
+                }
+                skip -= primes.length;
+                hi = lo - 1;
+            }
+        }
+        long needed = n - counted; // primes to find above guess
+        long lo = guess + 1;
+        while (true) {
+            long hi = lo + window - 1;
+            long inWindow = PrimeSieve.count(lo, hi);
+            if (needed <= inWindow) {
+                return PrimeSieve.primes(lo, hi)[(int) (needed - 1)];
+            }
+            needed -= inWindow;
+            lo = hi + 1;
+        }
+    }
+
+    // Lucy_Hedgehog: S(v) = #primes <= v for every v = n / k, updated once per prime p <= sqrt(n)
+    public static long piLucy(long n) {
+        if (n < 2) {
+            return 0;
+        }
+        int r = (int) PrimeSieve.isqrt(n);
+        long[] small = new long[r + 1];     // small[v] = S(v) for v <= r
+        long[] large = new long[r + 1];     // large[k] = S(n / k) for k <= r
+        for (int v = 1; v <= r; v++) {
+            small[v] = v - 1;
+            large[v] = n / v - 1;
+        }
+        for (int p = 2; p <= r; p++) {
+            if (small[p] == small[p - 1]) {
+                continue; // p is not prime
+            }
+            long primesBelowP = small[p - 1];
+            long square = (long) p * p;
+            int kLimit = (int) Math.min(r, n / square);
+            for (int k = 1; k <= kLimit; k++) {
+                long kp = (long) k * p;
+                long sv = kp <= r ? large[(int) kp] : small[(int) (n / kp)];
+                large[k] -= sv - primesBelowP;
+            }
+            for (int v = r; v >= square; v--) {
+                small[v] -= small[v / p] - primesBelowP;
+            }
+        }
+        return large[1];
+    }
+
+    // floor(x^(1/k))
+    static long iroot(long x, int k) {
+        long r = (long) Math.pow(x, 1.0 / k);
+        while (r > 0 && pow(r, k) > x) {
+            r--;
+        }
+        while (pow(r + 1, k) <= x) {
+            r++;
+        }
+        return r;
+    }
+
+    private static long pow(long base, int k) {
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            if (result > Long.MAX_VALUE / base) {
+                return Long.MAX_VALUE;
+            }
+            result *= base;
+        }
+        return result;
+    }
+
+    // Built once, on first use (holder class idiom: the JVM does the locking)
+    private static class Tables {
+        static final int[] PI = new int[TABLE_LIMIT];  // PI[x] = pi(x)
+        static final int[] PRIMES;                     // PRIMES[i] = i-th prime, PRIMES[0] unused
+        static final int[] PRIMORIAL = new int[PHI_TABLE_PRIMES + 1];
+        static final int[][] PHI = new int[PHI_TABLE_PRIMES + 1][];  // PHI[a][r] = phi(r, a) for r < PRIMORIAL[a]
+
+        static {
+            int[] all = PrimeSieve.primesUpTo(TABLE_LIMIT - 1);
+            PRIMES = new int[all.length + 1];
+            System.arraycopy(all, 0, PRIMES, 1, all.length);
+
+            int count = 0;
+            for (int x = 0, next = 1; x < TABLE_LIMIT; x++) {
+                if (next < PRIMES.length && PRIMES[next] == x) {
+                    count++;
+                    next++;
+                }
+                PI[x] = count;
+            }
+
+            PRIMORIAL[0] = 1;
+            PHI[0] = new int[] {0};
+            for (int a = 1; a <= PHI_TABLE_PRIMES; a++) {
+                PRIMORIAL[a] = PRIMORIAL[a - 1] * PRIMES[a];
+                int[] phi = new int[PRIMORIAL[a]];
+                for (int r = 1; r < phi.length; r++) {
+                    phi[r] = phi[r - 1] + (coprimeToFirst(r, a) ? 1 : 0);
+                }
+                PHI[a] = phi;
+            }
+            // PHI[a][P - 1] is phi(P - 1, a) = phi(P, a) because P itself is not coprime
+        }
+
+        private static boolean coprimeToFirst(int r, int a) {
+            for (int i = 1; i <= a; i++) {
+                if (r % PRIMES[i] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Tables() {
+        }
+    }
+}
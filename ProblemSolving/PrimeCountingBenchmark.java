@@ -0,0 +1,67 @@
+// Times PrimeCounting and checks it against known values and the two other methods.
+// Run: javac PrimeSieve.java PrimeCounting.java PrimeCountingBenchmark.java && java PrimeCountingBenchmark
+public class PrimeCountingBenchmark {
+    // pi(10^k) for k = 0..13
+    private static final long[] PI = {0, 4, 25, 168, 1229, 9592, 78498, 664579, 5761455, 50847534, 455052511L,
+            4118054813L, 37607912018L, 346065536839L};
+    // p(10^k) for k = 0..10
+    private static final long[] NTH = {2, 29, 541, 7919, 104729, 1299709, 15485863, 179424673, 2038074743L,
+            22801763489L, 252097800623L};
+
+    public static void main(String[] args) {
+        long start = System.nanoTime();
+        PrimeCounting.pi(100);
+        report("tables", 0, start);
+
+        for (int k = 7; k <= 13; k++) {
+            long x = pow10(k);
+            start = System.nanoTime();
+            long pi = PrimeCounting.pi(x);
+            report("pi(10^" + k + ") Meissel-Lehmer", pi, start);
+            check(pi == PI[k], "pi(10^" + k + ")");
+        }
+        for (int k = 9; k <= 12; k++) {
+            long x = pow10(k);
+            start = System.nanoTime();
+            long pi = PrimeCounting.piLucy(x);
+            report("pi(10^" + k + ") Lucy_Hedgehog", pi, start);
+            check(pi == PI[k], "piLucy(10^" + k + ")");
+        }
+        for (int k = 6; k <= 10; k++) {
+            long n = pow10(k);
+            start = System.nanoTime();
+            long p = PrimeCounting.nthPrime(n);
+            report("p(10^" + k + ")", p, start);
+            check(p == NTH[k], "p(10^" + k + ")");
+        }
+
+        // random spot checks against the sieve
+        java.util.SplittableRandom random = new java.util.SplittableRandom(7);
+        for (int i = 0; i < 20; i++) {
+            long x = random.nextLong(10_000_000, 2_000_000_000L);
+            check(PrimeCounting.pi(x) == PrimeSieve.count(0, x), "pi(" + x + ")");
+            long n = random.nextLong(1, 50_000_000);
+            long p = PrimeCounting.nthPrime(n);
+            check(PrimeSieve.count(0, p) == n && PrimeSieve.count(p, p) == 1, "nthPrime(" + n + ")");
+        }
+        System.out.println("spot checks against PrimeSieve passed");
+    }
+
+    private static long pow10(int k) {
+        long n = 1;
+        for (int i = 0; i < k; i++) {
+            n *= 10;
+        }
+        return n;
+    }
+
+    private static void report(String what, long result, long startNanos) {
+        System.out.printf("%-35s %,20d %10.1f ms%n", what, result, (System.nanoTime() - startNanos) / 1e6);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result for " + what);
+        }
+    }
+}
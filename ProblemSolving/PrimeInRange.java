@@ -4,26 +4,33 @@ public class PrimeInRange {
     public static void main (String[] args) {
         
         // Declaring variables
-        int n1, n2, i, j;
+        long n1, n2;
         System.out.print("Enter Two Numbers: ");
         
         // Scanning user input
         Scanner input = new Scanner(System.in);
-        n1 = input.nextInt(); // Read the first number of the range
-        n2 = input.nextInt(); // Read the second number of the range
+        n1 = input.nextLong(); // Read the first number of the range
+        n2 = input.nextLong(); // Read the second number of the range
         
-        // Implementing logic to find prime numbers within the range
-        for (i = n1; i <= n2; i++) { // Initialize 'i' from 'n1' then goes to 'n2'
-            for (j = 2; j <= i; j++) { // Initialize 'j = 2' because '2' is the smallest prime number
-                if (i % j == 0)
-                    break; // If 'i' is divisible by 'j', it's not a prime number, break the inner loop
-            }
-            
-            if (i == j) { // If 'i' is equal to 'j', it means 'i' is only divisible by itself, hence it is a prime number
-                System.out.print(j + " ");
-            }
-        }
+        // Finding prime numbers within the range with a segmented sieve (see PrimeSieve.java):
+        // instead of dividing every 'i' by every 'j' below it, each prime crosses off its own multiples once
+        StringBuilder primes = new StringBuilder();
+        PrimeSieve.forEachPrime(n1, n2, p -> primes.append(p).append(' '));
+        System.out.print(primes);
         
         input.close(); // Closing the Scanner object
     }
-}
\ No newline at end of file
+}
+
+// Compile with the sieve: javac PrimeInRange.java PrimeSieve.java
+//
+// The old way, for comparison (about n2 * n2 / 2 divisions in the worst case):
+//     for (i = n1; i <= n2; i++) {
+//         for (j = 2; j <= i; j++) {
+//             if (i % j == 0)
+//                 break; // 'i' is divisible by 'j', so it is not prime
+//         }
+//         if (i == j) { // 'i' is only divisible by itself
+//             System.out.print(j + " ");
+//         }
+//     }
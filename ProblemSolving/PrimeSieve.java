@@ -0,0 +1,347 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+
+// Segmented Sieve of Eratosthenes for prime lists, prime counts and the n-th prime (up to about 10^12).
+//
+// - Only odd numbers are stored, one bit each: bit i of a segment stands for first + 2*i.
+// - The range is sieved one segment at a time; a segment is 32 KB, so it stays in the CPU cache
+//   while every base prime (primes up to sqrt(hi)) crosses off its multiples.
+// - Counting can run segments in parallel on the fork-join pool.
+//
+// Used by PrimeInRange and ProjectEuler-Practice/10001st-Prime. Try it: java PrimeSieveBenchmark
+public class PrimeSieve {
+
+    static final int SEGMENT_WORDS = 32 * 1024 / Long.BYTES; // 32 KB of bits
+    static final int SEGMENT_BITS = SEGMENT_WORDS * 64;       // odd numbers per segment
+    static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;       // numbers per segment
+
+    // Segments handled by one fork-join task before it stops splitting
+    private static final int SEGMENTS_PER_TASK = 8;
+
+    private PrimeSieve() {
+    }
+
+    // Number of primes p with lo <= p <= hi
+    public static long count(long lo, long hi) {
+        return count(lo, hi, false);
+    }
+
+    public static long count(long lo, long hi, boolean parallel) {
+        lo = Math.max(lo, 0);
+        if (hi < lo || hi < 2) {
+            return 0;
+        }
+        long total = (lo <= 2 && 2 <= hi) ? 1 : 0;
+        long firstOdd = lo | 1;
+        long lastOdd = (hi & 1) == 0 ? hi - 1 : hi;
+        if (firstOdd > lastOdd) {
+            return total;
+        }
+
+        int[] primes = oddPrimesUpTo(isqrt(lastOdd));
+        long segments = (lastOdd - firstOdd) / SEGMENT_SPAN + 1;
+        if (parallel && segments > SEGMENTS_PER_TASK) {
+            total += ForkJoinPool.commonPool().invoke(new CountTask(firstOdd, lastOdd, 0, segments, primes));
+        } else {
+            total += countSegments(firstOdd, lastOdd, 0, segments, primes, new long[SEGMENT_WORDS]);
+        }
+        return total;
+    }
+
+    // Number of primes <= n, i.e. pi(n)
+    public static long pi(long n) {
+        return count(0, n, true);
+    }
+
+    // Calls action for every prime in [lo, hi], in increasing order
+    public static void forEachPrime(long lo, long hi, LongConsumer action) {
+        lo = Math.max(lo, 0);
+        if (hi < lo || hi < 2) {
+            return;
+        }
+        if (lo <= 2) {
+            action.accept(2);
+        }
+        long firstOdd = lo | 1;
+        long lastOdd = (hi & 1) == 0 ? hi - 1 : hi;
+        if (firstOdd > lastOdd) {
+            return;
+        }
+
+        int[] primes = oddPrimesUpTo(isqrt(lastOdd));
+        long[] composite = new long[SEGMENT_WORDS];
+        for (long first = firstOdd; first <= lastOdd; first += SEGMENT_SPAN) {
+            int bits = segmentBits(first, lastOdd);
+            sieveSegment(first, bits, primes, composite);
+            int words = (bits + 63) >>> 6;
+            for (int w = 0; w < words; w++) {
+                long candidates = ~composite[w];
+                while (candidates != 0) {
+                    int bit = (w << 6) + Long.numberOfTrailingZeros(candidates);
+                    if (bit >= bits) {
+                        break;
+                    }
+                    action.accept(first + 2L * bit);
+                    candidates &= candidates - 1; // clear the lowest set bit
+                }
+            }
+        }
+    }
+
+    // All primes in [lo, hi] (keep the range small enough for the array: about 4.5 * 10^8 primes below 10^10)
+    public static long[] primes(long lo, long hi) {
+        LongList list = new LongList();
+        forEachPrime(lo, hi, list::add);
+        return list.toArray();
+    }
+
+    // All primes <= n as int[], handy for trial division and as base primes
+    public static int[] primesUpTo(int n) {
+        if (n < 2) {
+            return new int[0];
+        }
+        int[] odd = oddPrimesUpTo(n);
+        int[] all = new int[odd.length + 1];
+        all[0] = 2;
+        System.arraycopy(odd, 0, all, 1, odd.length);
+        return all;
+    }
+
+    // The n-th prime (nthPrime(1) = 2)
+    public static long nthPrime(long n) {
+        return nthPrime(n, false);
+    }
+
+    // In parallel mode the range below the upper bound is cut in chunks that are counted in parallel;
+    // only the chunk holding the answer is walked prime by prime.
+    public static long nthPrime(long n, boolean parallel) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be >= 1: " + n);
+        }
+        if (n == 1) {
+            return 2;
+        }
+        long upper = nthPrimeUpperBound(n);
+        if (!parallel) {
+            return nthPrimeFrom(3, upper, n - 1); // 2 is already counted
+        }
+
+        int chunks = Math.max(1, ForkJoinPool.getCommonPoolParallelism()) * 16;
+        long chunkSpan = Math.max(SEGMENT_SPAN, (upper / chunks + SEGMENT_SPAN - 1) / SEGMENT_SPAN * SEGMENT_SPAN);
+        List<RecursiveTask<Long>> counts = new ArrayList<>();
+        for (long lo = 3; lo <= upper; lo += chunkSpan) {
+            long from = lo;
+            long to = Math.min(upper, lo + chunkSpan - 1);
+            counts.add(new RecursiveTask<Long>() {
+                @Override
+                protected Long compute() {
+                    return count(from, to);
+                }
+            });
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(counts);
+                return null;
+            }
+        });
+
+        long remaining = n - 1;
+        long lo = 3;
+        for (RecursiveTask<Long> chunk : counts) {
+            long inChunk = chunk.join();
+            if (remaining <= inChunk) {
+                return nthPrimeFrom(lo, Math.min(upper, lo + chunkSpan - 1), remaining);
+            }
+            remaining -= inChunk;
+            lo += chunkSpan;
+        }
+        throw new IllegalStateException("Upper bound too small for n = " + n);
+    }
+
+    // p_n < n (ln n + ln ln n) for n >= 6 (Rosser's theorem)
+    static long nthPrimeUpperBound(long n) {
+        if (n < 6) {
+            return 13;
+        }
+        double ln = Math.log(n);
+        return (long) Math.ceil(n * (ln + Math.log(ln))) + 1;
+    }
+
+    // The k-th prime >= lo (lo odd, >= 3), searching no further than hi
+    static long nthPrimeFrom(long lo, long hi, long k) {
+        long lastOdd = (hi & 1) == 0 ? hi - 1 : hi;
+        int[] primes = oddPrimesUpTo(isqrt(lastOdd));
+        long[] composite = new long[SEGMENT_WORDS];
+        for (long first = lo | 1; first <= lastOdd; first += SEGMENT_SPAN) {
+            int bits = segmentBits(first, lastOdd);
+            sieveSegment(first, bits, primes, composite);
+            int inSegment = bits - popCount(composite, bits);
+            if (k > inSegment) {
+                k -= inSegment;
+                continue;
+            }
+            for (int w = 0; ; w++) {
+                long candidates = ~composite[w];
+                int inWord = Long.bitCount(candidates);
+                if (k > inWord) {
+                    k -= inWord;
+                    continue;
+                }
+                while (--k > 0) {
+                    candidates &= candidates - 1;
+                }
+                return first + 2L * ((w << 6) + Long.numberOfTrailingZeros(candidates));
+            }
+        }
+        throw new IllegalStateException("Fewer than k primes in [" + lo + ", " + hi + "]");
+    }
+
+    // Counts primes in segments [fromSegment, toSegment) of the odd range starting at firstOdd
+    private static long countSegments(long firstOdd, long lastOdd, long fromSegment, long toSegment, int[] primes, long[] composite) {
+        long count = 0;
+        for (long s = fromSegment; s < toSegment; s++) {
+            long first = firstOdd + s * SEGMENT_SPAN;
+            int bits = segmentBits(first, lastOdd);
+            sieveSegment(first, bits, primes, composite);
+            count += bits - popCount(composite, bits);
+        }
+        return count;
+    }
+
+    private static int segmentBits(long first, long lastOdd) {
+        return (int) Math.min(SEGMENT_BITS, (lastOdd - first) / 2 + 1);
+    }
+
+    // Sets bit i of composite if first + 2*i (odd) is not prime; bits >= `bits` are left at 0
+    static void sieveSegment(long first, int bits, int[] oddPrimes, long[] composite) {
+        int words = (bits + 63) >>> 6;
+        Arrays.fill(composite, 0, words, 0L);
+        long last = first + 2L * (bits - 1);
+
+        for (int p : oddPrimes) {
+            long square = (long) p * p;
+            if (square > last) {
+                break;
+            }
+            long start;
+            if (square >= first) {
+                start = square;
+            } else {
+                long r = first % p;
+                start = r == 0 ? first : first + (p - r);
+                if ((start & 1) == 0) {
+                    start += p; // only odd multiples are stored
+                }
+            }
+            for (long i = (start - first) >>> 1; i < bits; i += p) {
+                composite[(int) (i >>> 6)] |= 1L << i;
+            }
+        }
+        if (first == 1) {
+            composite[0] |= 1L; // 1 is not a prime
+        }
+    }
+
+    private static int popCount(long[] words, int bits) {
+        int full = bits >>> 6;
+        int count = 0;
+        for (int w = 0; w < full; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        int rest = bits & 63;
+        if (rest != 0) {
+            count += Long.bitCount(words[full] & ((1L << rest) - 1));
+        }
+        return count;
+    }
+
+    // Odd primes <= n with a plain (unsegmented) odd-only sieve; n is at most about 10^6 here
+    static int[] oddPrimesUpTo(long n) {
+        if (n < 3) {
+            return new int[0];
+        }
+        int limit = (int) n;
+        int bits = (limit - 1) / 2; // 3, 5, 7, ... , limit  ->  bit i stands for 2i + 3
+        boolean[] composite = new boolean[bits];
+        for (int i = 0; ; i++) {
+            long p = 2L * i + 3;
+            if (p * p > limit) {
+                break;
+            }
+            if (!composite[i]) {
+                for (long j = (p * p - 3) / 2; j < bits; j += p) {
+                    composite[(int) j] = true;
+                }
+            }
+        }
+        int[] primes = new int[bits];
+        int size = 0;
+        for (int i = 0; i < bits; i++) {
+            if (!composite[i]) {
+                primes[size++] = 2 * i + 3;
+            }
+        }
+        return Arrays.copyOf(primes, size);
+    }
+
+    static long isqrt(long n) {
+        long r = (long) Math.sqrt((double) n);
+        while (r * r > n) {
+            r--;
+        }
+        while ((r + 1) * (r + 1) <= n) {
+            r++;
+        }
+        return r;
+    }
+
+    // Splits a run of segments until each task has SEGMENTS_PER_TASK of them, each leaf with its own buffer
+    @SuppressWarnings("serial") // a fork-join task, never serialized
+    private static class CountTask extends RecursiveTask<Long> {
+        private final long firstOdd, lastOdd, fromSegment, toSegment;
+        private final int[] primes;
+
+        CountTask(long firstOdd, long lastOdd, long fromSegment, long toSegment, int[] primes) {
+            this.firstOdd = firstOdd;
+            this.lastOdd = lastOdd;
+            this.fromSegment = fromSegment;
+            this.toSegment = toSegment;
+            this.primes = primes;
+        }
+
+        @Override
+        protected Long compute() {
+            if (toSegment - fromSegment <= SEGMENTS_PER_TASK) {
+                return countSegments(firstOdd, lastOdd, fromSegment, toSegment, primes, new long[SEGMENT_WORDS]);
+            }
+            long middle = (fromSegment + toSegment) >>> 1;
+            CountTask left = new CountTask(firstOdd, lastOdd, fromSegment, middle, primes);
+            left.fork();
+            long right = new CountTask(firstOdd, lastOdd, middle, toSegment, primes).compute();
+            return left.join() + right;
+        }
+    }
+
+    // Growable long[] (avoids boxing every prime into a List<Long>)
+    private static class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+// Times PrimeSieve against the old trial-division approach and checks the answers.
+// Run: javac PrimeSieve.java PrimeSieveBenchmark.java && java PrimeSieveBenchmark [maxExponent, default 10]
+public class PrimeSieveBenchmark {
+    // pi(10^k) for k = 0..12
+    private static final long[] PI = {0, 4, 25, 168, 1229, 9592, 78498, 664579, 5761455, 50847534, 455052511L, 4118054813L, 37607912018L};
+
+    public static void main(String[] args) {
+        int maxExponent = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+        // 10001st prime: trial division (old 10001st-Prime) vs the sieve
+        long start = System.nanoTime();
+        int count = 0, number = 1;
+        while (count < 10001) {
+            number++;
+            if (isPrimeTrialDivision(number)) {
+                count++;
+            }
+        }
+        report("10001st prime, trial division", number, start);
+        start = System.nanoTime();
+        report("10001st prime, sieve", PrimeSieve.nthPrime(10001), start);
+
+        // pi(10^k), sequential and parallel
+        for (int k = 6; k <= maxExponent; k++) {
+            long n = pow10(k);
+            start = System.nanoTime();
+            long sequential = PrimeSieve.count(0, n, false);
+            report("pi(10^" + k + ") sequential", sequential, start);
+            start = System.nanoTime();
+            long parallel = PrimeSieve.count(0, n, true);
+            report("pi(10^" + k + ") parallel", parallel, start);
+            check(sequential == PI[k] && parallel == PI[k], "pi(10^" + k + ")");
+        }
+
+        // n-th prime for n = 10^k, parallel
+        for (int k = 6; k <= maxExponent - 1; k++) {
+            long n = pow10(k);
+            start = System.nanoTime();
+            long p = PrimeSieve.nthPrime(n, true);
+            report("p(10^" + k + ")", p, start);
+            check(PrimeSieve.count(0, p) == n && PrimeSieve.count(0, p - 1) == n - 1, "p(10^" + k + ")");
+        }
+
+        // a narrow window high up: only the base primes below sqrt(hi) are needed
+        long hi = pow10(maxExponent);
+        start = System.nanoTime();
+        long window = PrimeSieve.count(hi - 10_000_000, hi);
+        report("primes in [10^" + maxExponent + " - 10^7, 10^" + maxExponent + "]", window, start);
+    }
+
+    private static boolean isPrimeTrialDivision(int num) {
+        if (num <= 3) {
+            return num > 1;
+        }
+        if (num % 2 == 0 || num % 3 == 0) {
+            return false;
+        }
+        for (int i = 5; i * i <= num; i += 6) {
+            if (num % i == 0 || num % (i + 2) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long pow10(int k) {
+        long n = 1;
+        for (int i = 0; i < k; i++) {
+            n *= 10;
+        }
+        return n;
+    }
+
+    private static void report(String what, long result, long startNanos) {
+        System.out.printf("%-45s %,16d %10.1f ms%n", what, result, (System.nanoTime() - startNanos) / 1e6);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result for " + what);
+        }
+    }
+}
@@ -3,20 +3,30 @@ public class ReverseNumber {
 	public static void main(String[] args) {
 		
 		//declaring variable
-		int n, rev;
+		long n, rev;
 		System.out.print("Enter any number  ");
 		
 		//Scannign user input
 		Scanner input = new Scanner(System.in);
-		n = input.nextInt();
+		n = input.nextLong();
 		
-		//implementing logic
-		while (n>0)
+		//implementing logic: two digits per step from a 100-entry table of swapped pairs
+		if (n>0)
 		{
-			rev = n%10;
-			System.out.print(rev);
-			n = n/10;
+			try
+			{
+				rev = DigitUtils.reverse(n);
+				//the zeros n ends with come first, as before (1200 -> 0021)
+				System.out.print("0".repeat(DigitUtils.digitCount(n) - DigitUtils.digitCount(rev)) + rev);
+			}
+			catch (ArithmeticException e)
+			{
+				//some 19-digit numbers do not fit a long reversed (1999999999999999999): print the digits instead
+				System.out.print(new StringBuilder(Long.toString(n)).reverse());
+			}
 		}
 		
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac ReverseNumber.java DigitUtils.java
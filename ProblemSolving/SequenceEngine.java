@@ -0,0 +1,307 @@
+import java.math.BigInteger;
+
+// Single terms of the Fibonacci and Tribonacci sequences in O(log n) multiplications instead of n additions.
+//
+// - Fibonacci, fast doubling on the pair (F(k-1), F(k)), two squares per bit of n:
+//       F(2k+1) = 4 F(k)^2 - F(k-1)^2 + 2 (-1)^k
+//       F(2k-1) = F(k)^2 + F(k-1)^2
+//       F(2k)   = F(2k+1) - F(2k-1)
+// - Tribonacci, powers of the 3x3 matrix M = [[1,1,1],[1,0,0],[0,1,0]]:
+//       (T(n+2), T(n+1), T(n)) = M^n (T(2), T(1), T(0)), for any three starting values.
+//   M^3 = M^2 + M + I (Cayley-Hamilton), so every power is M^n = c0 I + c1 M + c2 M^2 and only those three
+//   numbers are carried: squaring costs 6 products instead of the 27 of a full 3x3 product, multiplying by M
+//   none. Then T(n) = c0 T(0) + c1 T(1) + c2 T(2).
+// - Three versions of each: exact long (ArithmeticException instead of a silent overflow; an intermediate
+//   overflow in tribonacci is settled with BigInteger, as T(n) may still fit), BigInteger
+//   (BigInteger.multiply switches to Karatsuba and Toom-Cook by itself for big operands) and mod m.
+// - Sums in closed form: F(0) + ... + F(n) = F(n+2) - 1, and the even terms are every third one, F(3k), with
+//       F(3) + F(6) + ... + F(3m) = (F(3m+2) - 1) / 2.
+//
+// Used by ProjectEuler-Practice/Even-Fibonacci-Numbers; Fibonacci and TribonacciSeries print whole series and
+// only point here for single terms. Try it: java SequenceEngineBenchmark
+public class SequenceEngine {
+
+    // F(92) is the last Fibonacci number that fits in a long
+    public static final int MAX_LONG_FIBONACCI = 92;
+
+    private static final double LOG_PHI = Math.log((1 + Math.sqrt(5)) / 2);
+
+    private SequenceEngine() {
+    }
+
+    // F(n) exactly for 0 <= n <= 92 (F(0) = 0, F(1) = 1)
+    public static long fibonacci(int n) {
+        if (n < 0 || n > MAX_LONG_FIBONACCI) {
+            throw new ArithmeticException("F(" + n + ") does not fit in a long");
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long a = 0, b = 1; // (F(k-1), F(k)) with k = 1
+        int k = 1;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            // 4 F(k)^2 and F(2k+1) can wrap around on the last step, but the arithmetic is exact mod 2^64
+            // and the two terms kept afterwards fit in a long
+            long a2 = a * a, b2 = b * b;
+            long next = 4 * b2 - a2 + ((k & 1) == 0 ? 2 : -2); // F(2k+1)
+            long previous = b2 + a2;                            // F(2k-1)
+            long middle = next - previous;                      // F(2k)
+            k <<= 1;
+            if ((n >> bit & 1) == 0) {
+                a = previous;
+                b = middle;
+            } else {
+                a = middle;
+                b = next;
+                k++;
+            }
+        }
+        return b;
+    }
+
+    // F(n) exactly for any n >= 0 (F(10^7) has about 2.1 million digits)
+    public static BigInteger fibonacciBig(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        if (n <= MAX_LONG_FIBONACCI) {
+            return BigInteger.valueOf(fibonacci(n));
+        }
+        BigInteger a = BigInteger.ZERO, b = BigInteger.ONE;
+        int k = 1;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(n); bit >= 1; bit--) {
+            BigInteger a2 = a.multiply(a), b2 = b.multiply(b);
+            BigInteger next = b2.shiftLeft(2).subtract(a2).add(BigInteger.valueOf((k & 1) == 0 ? 2 : -2));
+            BigInteger previous = b2.add(a2);
+            BigInteger middle = next.subtract(previous);
+            k <<= 1;
+            if ((n >> bit & 1) == 0) {
+                a = previous;
+                b = middle;
+            } else {
+                a = middle;
+                b = next;
+                k++;
+            }
+        }
+        // last step: only one of F(2k), F(2k+1) is wanted, and each is a single product of the biggest numbers
+        //   F(2k)   = F(k) (F(k) + 2 F(k-1))
+        //   F(2k+1) = (2 F(k) - F(k-1)) (2 F(k) + F(k-1)) + 2 (-1)^k
+        BigInteger twiceB = b.shiftLeft(1);
+        if ((n & 1) == 0) {
+            return b.multiply(b.add(a.shiftLeft(1)));
+        }
+        return twiceB.subtract(a).multiply(twiceB.add(a)).add(BigInteger.valueOf((k & 1) == 0 ? 2 : -2));
+    }
+
+    // F(n) mod m for any n >= 0 and m >= 1
+    public static long fibonacciMod(long n, long m) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        ModMultiplier mod = new ModMultiplier(m);
+        if (n == 0 || m == 1) {
+            return 0;
+        }
+        // the plain doubling formulas F(2k) = F(k) (2 F(k+1) - F(k)) and F(2k+1) = F(k)^2 + F(k+1)^2
+        // on (F(k), F(k+1)): they have no sign term, so everything stays in [0, m)
+        long a = 0, b = 1; // (F(k), F(k+1)) with k = 0
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            long twice = mod.subtract(mod.add(b, b), a);
+            long even = mod.multiply(a, twice);                              // F(2k)
+            long odd = mod.add(mod.multiply(a, a), mod.multiply(b, b));      // F(2k+1)
+            if ((n >> bit & 1) == 0) {
+                a = even;
+                b = odd;
+            } else {
+                a = odd;
+                b = mod.add(even, odd);
+            }
+        }
+        return a;
+    }
+
+    // F(0) + F(1) + ... + F(n) = F(n+2) - 1, for 0 <= n <= 90
+    public static long fibonacciSum(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        return fibonacci(n + 2) - 1;
+    }
+
+    // Largest n with F(n) <= limit (limit >= 1), from F(n) ~ phi^n / sqrt(5) and then corrected by a step or two
+    public static int fibonacciIndexAtMost(long limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be >= 1: " + limit);
+        }
+        int n = (int) ((Math.log(limit) + Math.log(5) / 2) / LOG_PHI);
+        n = Math.min(n, MAX_LONG_FIBONACCI);
+        while (n > 1 && fibonacci(n) > limit) {
+            n--;
+        }
+        while (n < MAX_LONG_FIBONACCI && fibonacci(n + 1) <= limit) {
+            n++;
+        }
+        return n;
+    }
+
+    // Sum of the even Fibonacci numbers <= limit. They are F(3), F(6), ..., F(3m), whose sum is (F(3m+2) - 1) / 2.
+    public static long evenFibonacciSum(long limit) {
+        if (limit < 2) {
+            return 0;
+        }
+        int m = fibonacciIndexAtMost(limit) / 3;
+        if (3 * m + 2 > MAX_LONG_FIBONACCI) {
+            return evenFibonacciSumBig(m).longValueExact();
+        }
+        return (fibonacci(3 * m + 2) - 1) / 2;
+    }
+
+    // F(3) + F(6) + ... + F(3m)
+    public static BigInteger evenFibonacciSumBig(int m) {
+        if (m < 0) {
+            throw new IllegalArgumentException("m must be >= 0: " + m);
+        }
+        return fibonacciBig(3 * m + 2).subtract(BigInteger.ONE).shiftRight(1);
+    }
+
+    // T(n) with T(0) = t0, T(1) = t1, T(2) = t2 and T(n) = T(n-1) + T(n-2) + T(n-3), exactly;
+    // ArithmeticException only if T(n) itself does not fit in a long
+    public static long tribonacci(long n, long t0, long t1, long t2) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        try {
+            return tribonacciExact(n, t0, t1, t2);
+        } catch (ArithmeticException e) {
+            // a coefficient or a product overflowed, but with starting values of both signs the terms can cancel
+            // and T(n) still fit: T(73) for (-5, 3, 2) does, although 3 c1 alone is beyond 2^63
+            return tribonacciBig(n, t0, t1, t2).longValueExact();
+        }
+    }
+
+    // The powers of M in longs, every step checked
+    private static long tribonacciExact(long n, long t0, long t1, long t2) {
+        long c0 = 1, c1 = 0, c2 = 0; // M^k = c0 I + c1 M + c2 M^2, starting at k = 0
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            long d3 = Math.multiplyExact(2, Math.multiplyExact(c1, c2));
+            long d4 = Math.multiplyExact(c2, c2);
+            long r0 = Math.addExact(Math.addExact(Math.multiplyExact(c0, c0), d3), d4);
+            long common = Math.addExact(d3, Math.multiplyExact(2, d4));
+            long r1 = Math.addExact(Math.multiplyExact(2, Math.multiplyExact(c0, c1)), common);
+            long r2 = Math.addExact(Math.addExact(Math.multiplyExact(c1, c1), Math.multiplyExact(2, Math.multiplyExact(c0, c2))), common);
+            if ((n >> bit & 1) == 0) {
+                c0 = r0;
+                c1 = r1;
+                c2 = r2;
+            } else {
+                c0 = r2;
+                c1 = Math.addExact(r0, r2);
+                c2 = Math.addExact(r1, r2);
+            }
+        }
+        return Math.addExact(Math.addExact(Math.multiplyExact(c0, t0), Math.multiplyExact(c1, t1)), Math.multiplyExact(c2, t2));
+    }
+
+    public static BigInteger tribonacciBig(long n, long t0, long t1, long t2) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        BigInteger c0 = BigInteger.ONE, c1 = BigInteger.ZERO, c2 = BigInteger.ZERO;
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            BigInteger d3 = c1.multiply(c2).shiftLeft(1);
+            BigInteger d4 = c2.multiply(c2);
+            BigInteger common = d3.add(d4.shiftLeft(1));
+            BigInteger r0 = c0.multiply(c0).add(d3).add(d4);
+            BigInteger r1 = c0.multiply(c1).shiftLeft(1).add(common);
+            BigInteger r2 = c1.multiply(c1).add(c0.multiply(c2).shiftLeft(1)).add(common);
+            if ((n >> bit & 1) == 0) {
+                c0 = r0;
+                c1 = r1;
+                c2 = r2;
+            } else {
+                c0 = r2;
+                c1 = r0.add(r2);
+                c2 = r1.add(r2);
+            }
+        }
+        return c0.multiply(BigInteger.valueOf(t0))
+                .add(c1.multiply(BigInteger.valueOf(t1)))
+                .add(c2.multiply(BigInteger.valueOf(t2)));
+    }
+
+    // T(n) mod m, starting values taken mod m first (m >= 1)
+    public static long tribonacciMod(long n, long t0, long t1, long t2, long m) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        }
+        ModMultiplier mod = new ModMultiplier(m);
+        long c0 = 1 % m, c1 = 0, c2 = 0;
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            long c1c2 = mod.multiply(c1, c2);
+            long d3 = mod.add(c1c2, c1c2);
+            long d4 = mod.multiply(c2, c2);
+            long common = mod.add(d3, mod.add(d4, d4));
+            long c0c1 = mod.multiply(c0, c1), c0c2 = mod.multiply(c0, c2);
+            long r0 = mod.add(mod.add(mod.multiply(c0, c0), d3), d4);
+            long r1 = mod.add(mod.add(c0c1, c0c1), common);
+            long r2 = mod.add(mod.add(mod.multiply(c1, c1), mod.add(c0c2, c0c2)), common);
+            if ((n >> bit & 1) == 0) {
+                c0 = r0;
+                c1 = r1;
+                c2 = r2;
+            } else {
+                c0 = r2;
+                c1 = mod.add(r0, r2);
+                c2 = mod.add(r1, r2);
+            }
+        }
+        long sum = mod.multiply(c0, Math.floorMod(t0, m));
+        sum = mod.add(sum, mod.multiply(c1, Math.floorMod(t1, m)));
+        return mod.add(sum, mod.multiply(c2, Math.floorMod(t2, m)));
+    }
+
+    // a * b mod m for 0 <= a, b < m: plain long arithmetic while the product fits, Montgomery for large odd m,
+    // shift-and-add (no overflow, but 63 steps) for large even m
+    private static final class ModMultiplier {
+        private static final long PLAIN_LIMIT = 3_037_000_499L; // floor(sqrt(Long.MAX_VALUE))
+
+        private final long m;
+        private final Montgomery montgomery;
+
+        ModMultiplier(long m) {
+            if (m < 1) {
+                throw new IllegalArgumentException("m must be >= 1: " + m);
+            }
+            this.m = m;
+            this.montgomery = m > PLAIN_LIMIT && (m & 1) != 0 ? new Montgomery(m) : null;
+        }
+
+        long multiply(long a, long b) {
+            if (m <= PLAIN_LIMIT) {
+                return a * b % m;
+            }
+            if (montgomery != null) {
+                return montgomery.modMultiply(a, b);
+            }
+            long result = 0;
+            for (a %= m; b > 0; b >>= 1) {
+                if ((b & 1) != 0) {
+                    result = add(result, a);
+                }
+                a = add(a, a);
+            }
+            return result;
+        }
+
+        long add(long a, long b) {
+            long sum = a - m + b; // a, b < m, so a - m + b cannot overflow
+            return sum < 0 ? sum + m : sum;
+        }
+
+        long subtract(long a, long b) {
+            long difference = a - b;
+            return difference < 0 ? difference + m : difference;
+        }
+    }
+}
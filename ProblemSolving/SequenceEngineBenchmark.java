@@ -0,0 +1,92 @@
+import java.math.BigInteger;
+
+// Times SequenceEngine against term-by-term iteration and checks the answers.
+// Run: javac SequenceEngine.java SequenceEngineBenchmark.java Montgomery.java && java SequenceEngineBenchmark [n, default 10000000]
+public class SequenceEngineBenchmark {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+        // every long Fibonacci number and the small Tribonacci numbers against the loop
+        long a = 0, b = 1;
+        for (int i = 0; i <= SequenceEngine.MAX_LONG_FIBONACCI; i++) {
+            check(SequenceEngine.fibonacci(i) == a, "F(" + i + ")");
+            check(SequenceEngine.fibonacciBig(i).longValueExact() == a, "big F(" + i + ")");
+            long c = a + b;
+            a = b;
+            b = c;
+        }
+        // every Tribonacci number that fits in a long, for starting values of both signs, and an exception after
+        for (long[] start : new long[][] {{0, 1, 2}, {0, 0, 1}, {1, 1, 1}, {-5, 3, 2}, {7, -3, -4}}) {
+            BigInteger t0 = BigInteger.valueOf(start[0]), t1 = BigInteger.valueOf(start[1]);
+            BigInteger t2 = BigInteger.valueOf(start[2]);
+            int i = 0;
+            for (; t0.bitLength() < 64; i++) {
+                String what = "T(" + i + ") from " + start[0] + ", " + start[1] + ", " + start[2];
+                check(SequenceEngine.tribonacci(i, start[0], start[1], start[2]) == t0.longValue(), what);
+                check(SequenceEngine.tribonacciBig(i, start[0], start[1], start[2]).equals(t0), "big " + what);
+                BigInteger t3 = t0.add(t1).add(t2);
+                t0 = t1;
+                t1 = t2;
+                t2 = t3;
+            }
+            try {
+                SequenceEngine.tribonacci(i, start[0], start[1], start[2]);
+                check(false, "no overflow for T(" + i + ") from " + start[0] + ", " + start[1] + ", " + start[2]);
+            } catch (ArithmeticException expected) {
+                // T(i) needs 64 bits or more
+            }
+        }
+        check(SequenceEngine.evenFibonacciSum(4_000_000) == 4613732, "even Fibonacci sum below 4 million");
+
+        // F(n) exactly: n additions of ever longer numbers vs fast doubling
+        int iterative = Math.min(n, 200_000);
+        long start = System.nanoTime();
+        BigInteger x = BigInteger.ZERO, y = BigInteger.ONE;
+        for (int i = 0; i < iterative; i++) {
+            BigInteger z = x.add(y);
+            x = y;
+            y = z;
+        }
+        report("F(" + iterative + ") by iteration", x.bitLength() + " bits", start);
+        start = System.nanoTime();
+        BigInteger fast = SequenceEngine.fibonacciBig(iterative);
+        report("F(" + iterative + ") by fast doubling", fast.bitLength() + " bits", start);
+        check(fast.equals(x), "F(" + iterative + ")");
+
+        // the first runs include the JIT compiling BigInteger's Toom-Cook code
+        BigInteger big = null;
+        for (int run = 1; run <= 5; run++) {
+            start = System.nanoTime();
+            big = SequenceEngine.fibonacciBig(n);
+            report("F(" + n + ") by fast doubling, run " + run, big.bitLength() + " bits", start);
+        }
+
+        // the modular versions against the exact numbers, for moduli that take each multiplication path
+        long[] moduli = {1_000_000_007L, (1L << 61) - 1, (1L << 62) + 2, 1};
+        for (long m : moduli) {
+            BigInteger bm = BigInteger.valueOf(m);
+            check(BigInteger.valueOf(SequenceEngine.fibonacciMod(n, m)).equals(big.mod(bm)), "F(" + n + ") mod " + m);
+            int k = 5000;
+            check(BigInteger.valueOf(SequenceEngine.tribonacciMod(k, 0, 1, 2, m))
+                    .equals(SequenceEngine.tribonacciBig(k, 0, 1, 2).mod(bm)), "T(" + k + ") mod " + m);
+        }
+        start = System.nanoTime();
+        long mod = SequenceEngine.fibonacciMod(Long.MAX_VALUE, 1_000_000_007L);
+        report("F(2^63 - 1) mod 10^9+7", String.valueOf(mod), start);
+        start = System.nanoTime();
+        BigInteger tribonacci = SequenceEngine.tribonacciBig(1_000_000, 0, 1, 2);
+        report("T(10^6) by powers of M", tribonacci.bitLength() + " bits", start);
+        System.out.println("all checks passed");
+    }
+
+    private static void report(String label, String value, long start) {
+        System.out.printf("%-40s %10.1f ms  %s%n", label, (System.nanoTime() - start) / 1e6, value);
+    }
+
+    private static void check(boolean ok, String what) {
+        if (!ok) {
+            throw new AssertionError("Wrong result: " + what);
+        }
+    }
+}
@@ -3,20 +3,19 @@ public class SumOfDigits {
 	public static void main(String[] args) {
 		
 		//declaring variable
-		int n, r, sum = 0; //'r' for reminder
+		long n;
+		int sum;
 		System.out.print("Enrter any number: ");
 		
 		//Scanning user input
 		Scanner input = new Scanner(System.in);		
-		n = input.nextInt();
-		int h = n; 
+		n = input.nextLong();
+		long h = n; 
 		
-		//implementing logic
-		while(n>0) {
-			r = n%10;
-			sum = sum + r;
-			n = n/10;
-		}
+		//implementing logic: two digits per step from a 100-entry table of digit sums
+		sum = DigitUtils.digitSum(n);
 		System.out.print("Sum of digit of "+ h + " is: "+ sum);
 	}
-}
\ No newline at end of file
+}
+
+//Compile with: javac SumOfDigits.java DigitUtils.java
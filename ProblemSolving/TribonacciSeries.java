@@ -1,9 +1,12 @@
+import java.math.BigInteger;
 import java.util.Scanner;
 
 class TribonacciSeries {
     public static void main(String[] args) {
         
-        int term, a = 0, b = 1, c = 2, d;
+        int term;
+        // BigInteger instead of int, which silently overflows after 37 terms
+        BigInteger a = BigInteger.ZERO, b = BigInteger.ONE, c = BigInteger.TWO, d;
 
         System.out.print("Enter Term: ");
         Scanner sc = new Scanner(System.in);
@@ -16,7 +19,7 @@ class TribonacciSeries {
             System.out.print(a + " ");
 
             // Calculating the next term in the sequence
-            d = a + b + c;
+            d = a.add(b).add(c);
             a = b;
             b = c;
             c = d;
@@ -26,3 +29,6 @@ class TribonacciSeries {
         sc.close();
     }
 }
+
+// For a single term without the whole series, with these or any other three starting values,
+// see SequenceEngine.tribonacci (SequenceEngine.java)
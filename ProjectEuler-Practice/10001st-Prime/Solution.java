@@ -1,36 +1,25 @@
+// Uses PrimeSieve and MillerRabin from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution        (use ; instead of : on Windows)
 public class Solution {
     public static void main(String[] args) {
-        int count = 0; // Count of found primes
-        int number = 1; // Number to be tested for primality
-        int nthPrime = 10001; // We are looking for the 10,001st prime
+        long number = solve();
         
-        while (count < nthPrime) {
-            number++;
-            if (isPrime(number)) {
-                count++;
-            }
-        }
+        System.out.println("The 10001st prime number is: " + number);
+    }
+
+    // The answer, also for the harness in ../Harness
+    static long solve() {
+        int nthPrime = 10001; // We are looking for the 10,001st prime
         
-        System.out.println("The " + nthPrime + "st prime number is: " + number);
+        // The sieve counts primes segment by segment up to a bound the answer is known to be below
+        // (p_n < n (ln n + ln ln n)), instead of testing every number with isPrime
+        return PrimeSieve.nthPrime(nthPrime);
     }
 
     
-    // Method to check if a number is prime
-    public static boolean isPrime(int num) {
-        if (num <= 1) {
-            return false;
-        }
-        if (num <= 3) {
-            return true;
-        }
-        if (num % 2 == 0 || num % 3 == 0) {
-            return false;
-        }
-        for (int i = 5; i * i <= num; i += 6) {
-            if (num % i == 0 || num % (i + 2) == 0) {
-                return false;
-            }
-        }
-        return true;
+    // Method to check if a number is prime (deterministic Miller-Rabin, any long)
+    public static boolean isPrime(long num) {
+        return MillerRabin.isPrime(num);
     }
-}
\ No newline at end of file
+}
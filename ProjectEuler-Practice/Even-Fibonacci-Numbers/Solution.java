@@ -1,21 +1,20 @@
+// Uses SequenceEngine from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution        (use ; instead of : on Windows)
 public class Solution {
     public static void main(String[] args) {
-        int limit = 4000000;
-        int sum = 0;
-        
-        int x = 1; // First term in Fibonacci sequence
-        int y = 2; // Second term in Fibonacci sequence
-        
-        while (x <= limit) {
-            if (x % 2 == 0) 
-            {
-                sum += x;
-            }
-            int next = x + y;
-            x = y;
-            y = next;
-        }
+        long sum = solve();
         
         System.out.println("The sum of the even-valued terms in the Fibonacci sequence not exceeding four million is: " + sum);
     }
+
+    // The answer, also for the harness in ../Harness
+    static long solve() {
+        int limit = 4000000;
+        
+        // Every third Fibonacci number is even (odd + odd = even, then odd, odd, even, ...),
+        // and F(3) + F(6) + ... + F(3m) = (F(3m + 2) - 1) / 2, so no term has to be walked:
+        // find the last F(3m) <= limit and compute one Fibonacci number with fast doubling
+        return SequenceEngine.evenFibonacciSum(limit);
+    }
 }
\ No newline at end of file
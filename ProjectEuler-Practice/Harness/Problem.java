@@ -0,0 +1,12 @@
+// One Project Euler problem: which folder solves it, the answer it must give and a way to run it.
+public interface Problem {
+
+    int number();
+
+    String folder();
+
+    long expected();
+
+    // Runs the folder's Solution.solve() once and returns its answer
+    long solve() throws Exception;
+}
@@ -0,0 +1,126 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+// Every solved problem with its expected answer. Each folder is compiled on its own (javax.tools, with the
+// ProblemSolving sources on the source path) into a temporary directory and loaded by its own class loader,
+// because every folder has a class called Solution. The folder itself is on that class path too, for data
+// files such as digits.txt.
+public class ProblemRegistry {
+
+    private record Entry(int number, String folder, long expected) {
+    }
+
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry(1, "Multiples-of-3-or-5", 233168L),
+            new Entry(2, "Even-Fibonacci-Numbers", 4613732L),
+            new Entry(3, "Largest-Prime-Factor", 6857L),
+            new Entry(4, "Largest-Palindrome-Product", 906609L),
+            new Entry(5, "Smallest-Multiple", 232792560L),
+            new Entry(6, "Sum-Square-Difference", 25164150L),
+            new Entry(7, "10001st-Prime", 104743L),
+            new Entry(8, "Largest-Product-in-a-Series", 23514624000L));
+
+    private ProblemRegistry() {
+    }
+
+    // Compiles and loads the registered problems (all of them if `numbers` is empty) found under `root`
+    public static List<Problem> load(Path root, Path library, Path work, Set<Integer> numbers) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No Java compiler: run the harness on a JDK, not a JRE");
+        }
+        List<Problem> problems = new ArrayList<>();
+        for (Entry entry : ENTRIES) {
+            if (!numbers.isEmpty() && !numbers.contains(entry.number())) {
+                continue;
+            }
+            Path folder = root.resolve(entry.folder());
+            Path classes = Files.createDirectories(work.resolve(entry.folder()));
+            List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(),
+                    "-sourcepath", library.toString(), "-encoding", "UTF-8", "-implicit:class", "-nowarn"));
+            try (Stream<Path> files = Files.list(folder)) {
+                files.filter(f -> f.toString().endsWith(".java")).map(Path::toString).sorted().forEach(arguments::add);
+            }
+            if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+                throw new IllegalStateException("Problem " + entry.number() + " (" + entry.folder() + ") does not compile");
+            }
+            URLClassLoader loader = new URLClassLoader(new URL[] {url(classes), url(folder)},
+                    ProblemRegistry.class.getClassLoader());
+            try {
+                Method solve = loader.loadClass("Solution").getDeclaredMethod("solve");
+                solve.setAccessible(true);
+                problems.add(new CompiledProblem(entry, solve));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(entry.folder() + "/Solution has no static long solve()", e);
+            }
+        }
+        return problems;
+    }
+
+    // Folders under `root` with a Solution.java that are not registered yet
+    public static Set<String> unregistered(Path root) throws IOException {
+        Set<String> known = ENTRIES.stream().map(Entry::folder).collect(Collectors.toSet());
+        try (Stream<Path> folders = Files.list(root)) {
+            return folders.filter(f -> Files.exists(f.resolve("Solution.java")))
+                    .map(f -> f.getFileName().toString())
+                    .filter(name -> !known.contains(name))
+                    .collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    private static URL url(Path path) {
+        try {
+            return path.toUri().toURL();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class CompiledProblem implements Problem {
+        private final Entry entry;
+        private final Method solve;
+
+        CompiledProblem(Entry entry, Method solve) {
+            this.entry = entry;
+            this.solve = solve;
+        }
+
+        @Override
+        public int number() {
+            return entry.number();
+        }
+
+        @Override
+        public String folder() {
+            return entry.folder();
+        }
+
+        @Override
+        public long expected() {
+            return entry.expected();
+        }
+
+        @Override
+        public long solve() throws Exception {
+            try {
+                return ((Number) solve.invoke(null)).longValue();
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+// Runs every registered problem, checks its answer and times it, in one report:
+//
+//     #  problem                                answer           median us      min us  vs baseline
+//     1  Multiples-of-3-or-5                    233168  ok               1.1         1.0  1.02x faster
+//
+// Each problem is one task on a work-stealing ForkJoinPool: it is warmed up (so the JIT has compiled it),
+// then timed over a number of samples; the report shows the median and the fastest time per call. Tasks running side by
+// side share the CPUs, so use --sequential for timings to compare. --save writes the timings as CSV and
+// --baseline reads such a file back, so a slower or faster solver shows up as a ratio in the last column.
+//
+// From ProjectEuler-Practice:
+//   javac -d /tmp/harness Harness/*.java
+//   java -cp /tmp/harness ProblemRunner [--sequential] [--runs N] [--warmup-ms M] [--save file.csv]
+//                                       [--baseline file.csv] [problem numbers, default all]
+public class ProblemRunner {
+
+    private record Timing(Problem problem, long answer, Exception error, double medianMicros, double minMicros) {
+
+        boolean ok() {
+            return error == null && answer == problem.expected();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean sequential = false;
+        int runs = 10;
+        long warmupMillis = 500;
+        Path save = null, baseline = null;
+        Set<Integer> numbers = new TreeSet<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sequential" -> sequential = true;
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--warmup-ms" -> warmupMillis = Long.parseLong(args[++i]);
+                case "--save" -> save = Path.of(args[++i]);
+                case "--baseline" -> baseline = Path.of(args[++i]);
+                default -> numbers.add(Integer.parseInt(args[i]));
+            }
+        }
+        if (runs < 1) {
+            throw new IllegalArgumentException("--runs must be >= 1: " + runs);
+        }
+
+        Path root = Path.of("").toAbsolutePath();
+        Path library = root.resolveSibling("ProblemSolving");
+        Path work = Files.createTempDirectory("euler-harness");
+        try {
+            List<Problem> problems = ProblemRegistry.load(root, library, work, numbers);
+            for (String folder : ProblemRegistry.unregistered(root)) {
+                System.out.println("not in ProblemRegistry yet: " + folder);
+            }
+
+            ForkJoinPool pool = sequential ? new ForkJoinPool(1) : new ForkJoinPool();
+            List<Future<Timing>> futures = new ArrayList<>();
+            for (Problem problem : problems) {
+                int runCount = runs;
+                long warmup = warmupMillis;
+                futures.add(pool.submit(() -> time(problem, runCount, warmup)));
+            }
+            List<Timing> timings = new ArrayList<>();
+            for (Future<Timing> future : futures) {
+                timings.add(future.get());
+            }
+            pool.shutdown();
+            timings.sort(Comparator.comparingInt(t -> t.problem().number()));
+
+            report(timings, baseline == null ? Map.of() : readBaseline(baseline), sequential ? 1 : pool.getParallelism());
+            if (save != null) {
+                writeCsv(timings, save);
+            }
+            if (!timings.stream().allMatch(Timing::ok)) {
+                System.exit(1);
+            }
+        } finally {
+            deleteRecursively(work);
+        }
+    }
+
+    // Warm up for warmupMillis (at least one run, which also checks the answer), then time `runs` samples.
+    // A sample repeats solve() often enough to last about a millisecond, so that fast solvers are measured
+    // over many calls rather than at the resolution of nanoTime; the time per call is reported.
+    private static Timing time(Problem problem, int runs, long warmupMillis) {
+        try {
+            long answer = problem.solve();
+            if (answer != problem.expected()) {
+                return new Timing(problem, answer, null, Double.NaN, Double.NaN);
+            }
+            long warmupStart = System.nanoTime(), warmupEnd = warmupStart + warmupMillis * 1_000_000;
+            long calls = 0;
+            while (System.nanoTime() < warmupEnd) {
+                problem.solve();
+                calls++;
+            }
+            long perCall = calls == 0 ? Long.MAX_VALUE : (System.nanoTime() - warmupStart) / calls;
+            long batch = Math.max(1, 1_000_000 / Math.max(1, perCall));
+            double[] micros = new double[runs];
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                for (long j = 0; j < batch; j++) {
+                    answer = problem.solve();
+                }
+                micros[i] = (System.nanoTime() - start) / 1e3 / batch;
+                if (answer != problem.expected()) {
+                    return new Timing(problem, answer, null, Double.NaN, Double.NaN);
+                }
+            }
+            Arrays.sort(micros);
+            return new Timing(problem, answer, null, micros[runs / 2], micros[0]);
+        } catch (Exception e) {
+            return new Timing(problem, 0, e, Double.NaN, Double.NaN);
+        }
+    }
+
+    private static void report(List<Timing> timings, Map<Integer, Double> baseline, int threads) {
+        System.out.printf("%3s  %-30s %14s  %-5s %12s %11s  %s%n", "#", "problem", "answer", "", "median us", "min us",
+                baseline.isEmpty() ? "" : "vs baseline");
+        for (Timing t : timings) {
+            String status = t.error() != null ? "ERROR" : t.ok() ? "ok" : "WRONG";
+            String comparison = "";
+            Double before = baseline.get(t.problem().number());
+            if (before != null && t.ok()) {
+                // > 1: faster than the baseline, < 1: slower
+                comparison = String.format(Locale.ROOT, "%.2fx %s", before / t.medianMicros(),
+                        before >= t.medianMicros() ? "faster" : "slower");
+            }
+            System.out.printf(Locale.ROOT, "%3d  %-30s %14d  %-5s %12.1f %11.1f  %s%n", t.problem().number(),
+                    t.problem().folder(), t.answer(), status, t.medianMicros(), t.minMicros(), comparison);
+            if (t.error() != null) {
+                System.out.println("     " + t.error());
+            } else if (!t.ok()) {
+                System.out.println("     expected " + t.problem().expected());
+            }
+        }
+        long failed = timings.stream().filter(t -> !t.ok()).count();
+        System.out.printf("%d problems, %d failed, %d thread%s%n", timings.size(), failed, threads, threads == 1 ? "" : "s");
+    }
+
+    // number,folder,answer,median_us,min_us
+    private static void writeCsv(List<Timing> timings, Path file) throws IOException {
+        List<String> lines = new ArrayList<>(List.of("number,folder,answer,median_us,min_us"));
+        for (Timing t : timings) {
+            lines.add(String.format(Locale.ROOT, "%d,%s,%d,%.3f,%.3f", t.problem().number(), t.problem().folder(),
+                    t.answer(), t.medianMicros(), t.minMicros()));
+        }
+        Files.write(file, lines);
+    }
+
+    // problem number -> median us
+    private static Map<Integer, Double> readBaseline(Path file) throws IOException {
+        Map<Integer, Double> medians = new HashMap<>();
+        List<String> lines = Files.readAllLines(file);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(",");
+            medians.put(Integer.parseInt(fields[0]), Double.parseDouble(fields[3]));
+        }
+        return medians;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+// Largest palindrome that is a product of two k-digit numbers, for k = 1..9 (the product still fits a long).
+//
+// Instead of trying every pair of factors and testing each product, palindromes are generated largest first
+// from their left half (h = 999 -> 999999, h = 998 -> 998899, ...) and each one is checked for a factorisation:
+// - A palindrome with an even number of digits is divisible by 11 (the alternating digit sum is 0), so one of
+//   the two factors is a multiple of 11: only every 11th candidate factor has to be tried.
+// - A factor x only works if the other one, p / x, also has k digits, which bounds x to [p / max, max].
+// The first palindrome that passes is the answer. The halves are split into blocks that are searched in
+// parallel, one wave of blocks at a time, keeping the highest block that found something.
+public class PalindromeProductSearch {
+
+    // left halves searched by one task
+    private static final int BLOCK = 256;
+
+    // blocks searched together before looking at the results
+    private static final int BLOCKS_PER_WAVE = 64;
+
+    // p = a * b with a >= b
+    public record Result(long palindrome, long a, long b) {
+    }
+
+    private PalindromeProductSearch() {
+    }
+
+    public static Result largest(int k) {
+        return largest(k, true);
+    }
+
+    public static Result largest(int k, boolean parallel) {
+        if (k < 1 || k > 9) {
+            throw new IllegalArgumentException("k must be in [1, 9]: " + k);
+        }
+        long max = pow10(k) - 1;
+        long min = pow10(k - 1);
+        // 2k digits first; only k = 1 has to fall back to 2k - 1 digits (9 = 9 * 1)
+        Result result = search(2 * k, min, max, parallel);
+        return result != null ? result : search(2 * k - 1, min, max, parallel);
+    }
+
+    private static Result search(int length, long min, long max, boolean parallel) {
+        int halfDigits = (length + 1) / 2;
+        long highest = pow10(halfDigits) - 1;
+        long lowest = pow10(halfDigits - 1);
+        if (!parallel) {
+            return searchBlock(highest, lowest, length, min, max);
+        }
+        long wave = (long) BLOCK * BLOCKS_PER_WAVE;
+        for (long top = highest; top >= lowest; top -= wave) {
+            long waveTop = top;
+            Result found = LongStream.range(0, BLOCKS_PER_WAVE)
+                    .parallel()
+                    .mapToObj(b -> {
+                        long from = waveTop - b * BLOCK;
+                        long to = Math.max(lowest, from - BLOCK + 1);
+                        return from < lowest ? null : searchBlock(from, to, length, min, max);
+                    })
+                    .filter(Objects::nonNull)
+                    .findFirst() // encounter order: the highest block with an answer
+                    .orElse(null);
+            if (found != null) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    // Left halves from `from` down to `to`; the first palindrome with a factorisation is the largest in the block
+    private static Result searchBlock(long from, long to, int length, long min, long max) {
+        for (long half = from; half >= to; half--) {
+            long palindrome = palindrome(half, length);
+            Result result = (length & 1) == 0
+                    ? factorByEleven(palindrome, min, max)
+                    : factor(palindrome, min, max);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    // Even length: one factor is a multiple of 11 in [p / max, max]
+    private static Result factorByEleven(long p, long min, long max) {
+        long low = Math.max(min, (p + max - 1) / max);
+        for (long x = max / 11 * 11; x >= low; x -= 11) {
+            if (p % x == 0) {
+                long y = p / x;
+                if (y >= min && y <= max) {
+                    return new Result(p, Math.max(x, y), Math.min(x, y));
+                }
+            }
+        }
+        return null;
+    }
+
+    // Odd length: the larger factor a runs from max down to sqrt(p)
+    private static Result factor(long p, long min, long max) {
+        long low = Math.max(min, (p + max - 1) / max);
+        for (long a = max; a >= low && a * a >= p; a--) {
+            if (p % a == 0 && p / a >= min) {
+                return new Result(p, a, p / a);
+            }
+        }
+        return null;
+    }
+
+    // The palindrome of the given length whose first digits are `half`: 123 -> 123321 (length 6) or 12321 (length 5)
+    static long palindrome(long half, int length) {
+        long result = half;
+        for (long rest = (length & 1) == 0 ? half : half / 10; rest > 0; rest /= 10) {
+            result = result * 10 + rest % 10;
+        }
+        return result;
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    // Times every k and checks small k against all pairs: java PalindromeProductSearch [maxK, default 9]
+    public static void main(String[] args) {
+        int maxK = args.length > 0 ? Integer.parseInt(args[0]) : 9;
+        for (int k = 1; k <= maxK; k++) {
+            long start = System.nanoTime();
+            Result result = largest(k);
+            double millis = (System.nanoTime() - start) / 1e6;
+            if (k <= 4 && (result.palindrome() != allPairs(k) || largest(k, false).palindrome() != result.palindrome())) {
+                throw new AssertionError("Wrong result for k = " + k);
+            }
+            System.out.printf("k = %d: %d = %d * %d (%.1f ms)%n", k, result.palindrome(), result.a(), result.b(), millis);
+        }
+    }
+
+    // The old Solution loop: every pair, every product tested
+    private static long allPairs(int k) {
+        long best = 0;
+        for (long i = pow10(k) - 1; i >= pow10(k - 1); i--) {
+            for (long j = i; j >= pow10(k - 1); j--) {
+                long product = i * j;
+                if (product > best && isPalindrome(product)) {
+                    best = product;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static boolean isPalindrome(long number) {
+        long reversed = 0;
+        for (long rest = number; rest > 0; rest /= 10) {
+            reversed = reversed * 10 + rest % 10;
+        }
+        return reversed == number;
+    }
+}
@@ -1,34 +1,19 @@
+// Uses PalindromeProductSearch from this folder:
+//   javac Solution.java PalindromeProductSearch.java
+//   java Solution
 public class Solution {
     public static void main(String[] args) {
-        int largestPalindrome = 0;
-        int factor1 = 0;
-        int factor2 = 0;
+        // Palindromes are generated from the largest down (999999, 998899, ...) and the first one that
+        // splits into two 3-digit factors is the answer, instead of testing all ~400k products.
+        // One factor must be a multiple of 11, because every 6-digit palindrome is.
+        PalindromeProductSearch.Result result = PalindromeProductSearch.largest(3);
 
-        for (int i = 999; i >= 100; i--) {
-            for (int j = i; j >= 100; j--) {
-                int product = i * j;
-                if (isPalindrome(product) && product > largestPalindrome) {
-                    largestPalindrome = product;
-                    factor1 = i;
-                    factor2 = j;
-                }
-            }
-        }
-
-        System.out.println("The largest palindrome made from the product of two 3-digit numbers is: " + largestPalindrome);
-        System.out.println("The factors are: " + factor1 + " and " + factor2);
+        System.out.println("The largest palindrome made from the product of two 3-digit numbers is: " + result.palindrome());
+        System.out.println("The factors are: " + result.a() + " and " + result.b());
     }
 
-    public static boolean isPalindrome(int number) {
-        int original = number;
-        int reversed = 0;
-
-        while (number != 0) {
-            int digit = number % 10;
-            reversed = reversed * 10 + digit;
-            number /= 10;
-        }
-
-        return original == reversed;
+    // The answer, for the harness in ../Harness
+    static long solve() {
+        return PalindromeProductSearch.largest(3).palindrome();
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,19 @@
+// Uses Factorization from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution        (use ; instead of : on Windows)
 public class Solution {
     public static void main(String[] args) {
-        long number = 600851475143L;
-        long largestPrimeFactor = 1;
-
-        // Start with the smallest prime factor
-        long factor = 2;
-        
-        while (factor * factor <= number) {
-            if (number % factor == 0) {
-                largestPrimeFactor = factor;
-                number /= factor;
-            } else {
-                factor++;
-            }
-        }
-        
-        // If there's any factor left larger than sqrt(number)
-        if (number > largestPrimeFactor) {
-            largestPrimeFactor = number;
-        }
+        long largestPrimeFactor = solve();
         
         System.out.println("The largest prime factor of 600851475143 is: " + largestPrimeFactor);
     }
+
+    // The answer, also for the harness in ../Harness
+    static long solve() {
+        long number = 600851475143L;
+
+        // Trial division by the small primes, then Pollard's rho (Brent) for whatever is left:
+        // fast for any long, not only for numbers whose factors are all small
+        return Factorization.largestPrimeFactor(number);
+    }
 }
\ No newline at end of file
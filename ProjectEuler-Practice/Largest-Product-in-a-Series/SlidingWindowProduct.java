@@ -0,0 +1,291 @@
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+// Greatest product of k adjacent digits in a stream of digits of any length, in one pass.
+//
+// Instead of multiplying k digits again for every window (O(n*k)), the window slides: the digit that enters is
+// added and the digit that leaves is removed. A product of digits is 2^a * 3^b * 5^c * 7^d (0 and 1 aside),
+// so the window keeps those four exponents, packed as 16-bit fields of one long (k up to MAX_WINDOW):
+// - no division, and no overflow (13 nines already need 42 bits, 20 nines do not fit a long);
+// - windows are compared by a fixed-point log of the product, a sum of integers, so no rounding error builds
+//   up however long the stream is; near ties are decided exactly with BigInteger;
+// - a zero adds a large negative score, so a window with a zero loses until the zero has left it.
+// The digit leaving the window is read again from the file by a second cursor (files), or kept in a ring buffer
+// of the last k digits (any InputStream). Other characters (line breaks, spaces) are skipped.
+public class SlidingWindowProduct {
+
+    // the largest window whose exponents fit 16 bits: 3k for the twos of k eights (the twos field is the top one,
+    // so the packed long may go negative; it is only ever read field by field)
+    public static final int MAX_WINDOW = 0xFFFF / 3;
+
+    // log(digit) in units of 2^-30, exact to half a unit; a window's score is off by at most k/2 units
+    private static final long[] SCORE = new long[10];
+
+    // exponents of 2, 3, 5, 7 in each digit, packed as in the window
+    private static final long[] EXPONENTS = new long[10];
+
+    // below any window without a zero: MAX_WINDOW * log 9 * 2^30 < 2^46
+    private static final long ZERO_SCORE = -(1L << 46);
+
+    static {
+        int[][] exponents = {{0, 0, 0, 0}, {0, 0, 0, 0}, {1, 0, 0, 0}, {0, 1, 0, 0}, {2, 0, 0, 0},
+                {0, 0, 1, 0}, {1, 1, 0, 0}, {0, 0, 0, 1}, {3, 0, 0, 0}, {0, 2, 0, 0}};
+        for (int digit = 0; digit < 10; digit++) {
+            SCORE[digit] = digit == 0 ? ZERO_SCORE : Math.round(Math.log(digit) * (1L << 30));
+            int[] e = exponents[digit];
+            EXPONENTS[digit] = (long) e[0] << 48 | (long) e[1] << 32 | (long) e[2] << 16 | e[3];
+        }
+    }
+
+    // files are mapped this many bytes at a time (a single mapping is limited to 2 GB)
+    private static final long MAP_SIZE = 1L << 28;
+
+    // The best window: its first digit (0-based, counting digits only) and its product 2^twos 3^threes 5^fives 7^sevens.
+    // start = -1 when there are fewer than k digits; the product is 0 when every window contains a zero.
+    public record Result(long start, boolean zero, int twos, int threes, int fives, int sevens) {
+
+        public BigInteger product() {
+            if (zero) {
+                return BigInteger.ZERO;
+            }
+            return BigInteger.TWO.pow(twos).multiply(BigInteger.valueOf(3).pow(threes))
+                    .multiply(BigInteger.valueOf(5).pow(fives)).multiply(BigInteger.valueOf(7).pow(sevens));
+        }
+
+        // ArithmeticException if the product does not fit a long
+        public long productExact() {
+            return product().longValueExact();
+        }
+    }
+
+    private SlidingWindowProduct() {
+    }
+
+    // Reads the file through memory mappings, with a second cursor for the digit leaving the window
+    public static Result largest(Path file, int k) throws IOException {
+        checkWindow(k);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return scan(new MappedDigits(channel), new MappedDigits(channel), null, k);
+        }
+    }
+
+    // Any stream; the last k digits are kept in a ring buffer of k bytes
+    public static Result largest(InputStream in, int k) throws IOException {
+        checkWindow(k);
+        return scan(new StreamDigits(in), null, new byte[k], k);
+    }
+
+    private static void checkWindow(int k) {
+        if (k < 1 || k > MAX_WINDOW) {
+            throw new IllegalArgumentException("k must be in [1, " + MAX_WINDOW + "]: " + k);
+        }
+    }
+
+    // The digit leaving the window comes from `trailing`, or from `ring` when trailing is null.
+    // The window and the best one so far live in local variables: two table lookups and one compare per digit.
+    private static Result scan(Digits leading, Digits trailing, byte[] ring, int k) throws IOException {
+        long score = 0, exponents = 0;
+        for (int i = 0; i < k; i++) {
+            int digit = leading.next();
+            if (digit < 0) {
+                return new Result(-1, true, 0, 0, 0, 0);
+            }
+            if (ring != null) {
+                ring[i] = (byte) digit;
+            }
+            score += SCORE[digit];
+            exponents += EXPONENTS[digit];
+        }
+        // the first window is the answer until a window without a zero comes along (found)
+        long bestStart = 0, bestScore = -1, bestExponents = 0;
+        boolean found = false;
+        int oldest = 0;
+        for (long start = 0; ; start++) {
+            // within k units of the best: too close to trust the rounded logs
+            if (score >= bestScore - k && (!found || exponents != bestExponents
+                    && (score > bestScore + k || greaterExactly(exponents, bestExponents)))) {
+                found = true;
+                bestStart = start;
+                bestScore = score;
+                bestExponents = exponents;
+            }
+            int digit = leading.next();
+            if (digit < 0) {
+                break;
+            }
+            int leaving;
+            if (ring == null) {
+                leaving = trailing.next();
+            } else {
+                leaving = ring[oldest];
+                ring[oldest] = (byte) digit;
+                oldest = oldest + 1 == k ? 0 : oldest + 1;
+            }
+            score += SCORE[digit] - SCORE[leaving];
+            exponents += EXPONENTS[digit] - EXPONENTS[leaving];
+        }
+        if (!found) {
+            return new Result(0, true, 0, 0, 0, 0);
+        }
+        return new Result(bestStart, false, field(bestExponents, 3), field(bestExponents, 2),
+                field(bestExponents, 1), field(bestExponents, 0));
+    }
+
+    // 16-bit field i of packed exponents: 3 = twos, 2 = threes, 1 = fives, 0 = sevens
+    private static int field(long exponents, int i) {
+        return (int) (exponents >>> (16 * i)) & 0xFFFF;
+    }
+
+    // the product of `exponents` > the product of `best`, compared exactly after cancelling the common part
+    private static boolean greaterExactly(long exponents, long best) {
+        BigInteger current = BigInteger.ONE, other = BigInteger.ONE;
+        int[] primes = {7, 5, 3, 2};
+        for (int i = 0; i < 4; i++) {
+            int difference = field(exponents, i) - field(best, i);
+            BigInteger power = BigInteger.valueOf(primes[i]).pow(Math.abs(difference));
+            if (difference > 0) {
+                current = current.multiply(power);
+            } else {
+                other = other.multiply(power);
+            }
+        }
+        return current.compareTo(other) > 0;
+    }
+
+    // Digits from a 64 KB buffer: copying in bulk is several times faster than one get() or read() per byte
+    private abstract static class Digits {
+        private final byte[] buffer = new byte[1 << 16];
+        private int position, limit;
+
+        // the next digit, or -1 at the end
+        final int next() throws IOException {
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(0, fill(buffer));
+                    position = 0;
+                    if (limit == 0) {
+                        return -1;
+                    }
+                }
+                int c = buffer[position++] - '0';
+                if (c >= 0 && c <= 9) {
+                    return c;
+                }
+            }
+        }
+
+        // copies the next bytes into buffer; returns how many, or 0 / -1 at the end
+        abstract int fill(byte[] buffer) throws IOException;
+    }
+
+    // A file, mapped MAP_SIZE bytes at a time
+    private static final class MappedDigits extends Digits {
+        private final FileChannel channel;
+        private final long size;
+        private long mapped; // file offset just past the current mapping
+        private MappedByteBuffer mapping;
+
+        MappedDigits(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        int fill(byte[] buffer) throws IOException {
+            if (mapping == null || !mapping.hasRemaining()) {
+                if (mapped >= size) {
+                    return -1;
+                }
+                long length = Math.min(MAP_SIZE, size - mapped);
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+                mapped += length;
+            }
+            int count = Math.min(buffer.length, mapping.remaining());
+            mapping.get(buffer, 0, count);
+            return count;
+        }
+    }
+
+    private static final class StreamDigits extends Digits {
+        private final InputStream in;
+
+        StreamDigits(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        int fill(byte[] buffer) throws IOException {
+            return in.read(buffer);
+        }
+    }
+
+    // Checks the edge cases, then writes a file of random digits and times both readers on it:
+    //   java SlidingWindowProduct [megabytes, default 2048] [k, default 13]
+    public static void main(String[] args) throws IOException {
+        long megabytes = args.length > 0 ? Long.parseLong(args[0]) : 2048;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 13;
+        Path file = Files.createTempFile("digits", ".txt");
+        try {
+            // the largest window of eights fills the twos field to 0xFFFF, the sign bit of the packed long
+            byte[] eights = "8".repeat(MAX_WINDOW + 1000).getBytes(StandardCharsets.US_ASCII);
+            Files.write(file, eights);
+            check(largest(file, MAX_WINDOW), new Result(0, false, 3 * MAX_WINDOW, 0, 0, 0), "file of eights");
+            check(largest(new ByteArrayInputStream(eights), MAX_WINDOW), new Result(0, false, 3 * MAX_WINDOW, 0, 0, 0),
+                    "stream of eights");
+            // a window of ones has product 1, not 0; only zeros give 0
+            check(largest(new ByteArrayInputStream("0111".getBytes(StandardCharsets.US_ASCII)), 3),
+                    new Result(1, false, 0, 0, 0, 0), "ones");
+            check(largest(new ByteArrayInputStream("1010".getBytes(StandardCharsets.US_ASCII)), 2),
+                    new Result(0, true, 0, 0, 0, 0), "zeros");
+            System.out.println("all checks passed");
+
+            SplittableRandom random = new SplittableRandom(46);
+            byte[] block = new byte[1 << 20];
+            try (OutputStream out = Files.newOutputStream(file)) {
+                for (long m = 0; m < megabytes; m++) {
+                    for (int i = 0; i < block.length; i++) {
+                        // mostly 1..9 so that long windows without a zero exist
+                        block[i] = (byte) ('0' + (random.nextInt(1000) == 0 ? 0 : random.nextInt(1, 10)));
+                    }
+                    out.write(block);
+                }
+            }
+            long start = System.nanoTime();
+            Result mappedResult = largest(file, k);
+            report("memory-mapped file", megabytes, mappedResult, start);
+            start = System.nanoTime();
+            Result streamResult;
+            try (InputStream in = Files.newInputStream(file)) {
+                streamResult = largest(in, k);
+            }
+            report("InputStream", megabytes, streamResult, start);
+            if (!mappedResult.equals(streamResult)) {
+                throw new AssertionError("The readers disagree: " + mappedResult + " vs " + streamResult);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void check(Result result, Result expected, String what) {
+        if (!result.equals(expected)) {
+            throw new AssertionError("Wrong result for " + what + ": " + result + ", expected " + expected);
+        }
+    }
+
+    private static void report(String label, long megabytes, Result result, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-20s %6.2f s  %7.0f MB/s  best window at %d, product 2^%d 3^%d 5^%d 7^%d%n", label, seconds,
+                megabytes / seconds, result.start(), result.twos(), result.threes(), result.fives(), result.sevens());
+    }
+}
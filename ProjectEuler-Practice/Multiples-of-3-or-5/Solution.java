@@ -1,12 +1,25 @@
+// Uses PowerSums from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution [limit, default 1000] [divisors, default 3 5]   (use ; instead of : on Windows)
+import java.math.BigInteger;
+import java.util.Arrays;
+
 public class Solution {
     public static void main(String[] args) {
-        int sum = 0;
-        for (int i = 1; i < 1000; i++) {
-            if (i % 3 == 0 || i % 5 == 0) 
-            {
-                sum += i;
-            }
-        }
-        System.out.println("The sum of all multiples of 3 or 5 below 1000 is: " + sum);
+        long limit = args.length > 0 ? Long.parseLong(args[0]) : 1000;
+        long[] divisors = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToLong(Long::parseLong).toArray()
+                : new long[] {3, 5};
+
+        // Inclusion-exclusion instead of testing every number: the multiples of 3 plus the multiples of 5
+        // minus the multiples of 15, each an arithmetic series m * c(c+1)/2, so a limit of 10^18 is instant
+        BigInteger sum = PowerSums.sumOfMultiples(divisors, limit - 1);
+
+        System.out.println("The sum of all multiples of " + Arrays.toString(divisors) + " below " + limit + " is: " + sum);
     }
-}
\ No newline at end of file
+
+    // The answer for the default input, for the harness in ../Harness
+    static long solve() {
+        return PowerSums.sumOfMultiples(new long[] {3, 5}, 999).longValueExact();
+    }
+}
@@ -1,22 +1,26 @@
+// Uses NumberTheory from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution [N, default 20]        (use ; instead of : on Windows)
+import java.math.BigInteger;
+
 public class Solution {
     public static void main(String[] args) {
-        long lcm = 1;
-        for (int i = 1; i <= 20; i++) {
-            lcm = lcm(lcm, i);
-        }
-        System.out.println("The smallest positive number that is evenly divisible by all of the numbers from 1 to 20 is: " + lcm);
-    }
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        // lcm(1..N) is the product of the largest power of each prime that is still <= N
+        // (2^4 * 3^2 * 5 * 7 * 11 * 13 * 17 * 19 for N = 20), so no gcd per number is needed
+        // and N = 10^6 is as easy as N = 20
+        BigInteger lcm = NumberTheory.lcmUpTo(n);
 
-    public static long gcd(long a, long b) {
-        while (b != 0) {
-            long temp = b;
-            b = a % b;
-            a = temp;
+        if (n == 20) {
+            System.out.println("The smallest positive number that is evenly divisible by all of the numbers from 1 to 20 is: " + lcm);
+        } else {
+            System.out.println("lcm(1.." + n + ") has " + lcm.toString().length() + " digits: " + lcm);
         }
-        return a;
     }
 
-    public static long lcm(long a, long b) {
-        return a * (b / gcd(a, b));
+    // The answer for N = 20, for the harness in ../Harness
+    static long solve() {
+        return NumberTheory.lcmUpTo(20).longValueExact();
     }
 }
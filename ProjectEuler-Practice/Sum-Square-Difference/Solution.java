@@ -1,17 +1,28 @@
+// Uses PowerSums from ProblemSolving. From this folder:
+//   javac -cp ../../ProblemSolving Solution.java
+//   java -cp .:../../ProblemSolving Solution [n, default 100]        (use ; instead of : on Windows)
+import java.math.BigInteger;
+
 public class Solution {
     public static void main(String[] args) {
-        int n = 100;
+        long n = args.length > 0 ? Long.parseLong(args[0]) : 100;
 
-        // Calculate the sum of the squares
-        long sumOfSquares = (n * (n + 1) * (2 * n + 1)) / 6;
+        // Calculate the sum of the squares, n(n+1)(2n+1)/6
+        BigInteger sumOfSquares = PowerSums.powerSum(n, 2);
 
-        // Calculate the square of the sum
-        long sum = (n * (n + 1)) / 2;
-        long squareOfSum = sum * sum;
+        // Calculate the square of the sum, (n(n+1)/2)^2
+        BigInteger sum = PowerSums.powerSum(n, 1);
+        BigInteger squareOfSum = sum.multiply(sum);
 
-        // Find the difference
-        long difference = squareOfSum - sumOfSquares;
+        // Find the difference; exact for any n (the old formula overflowed from n = 1024 on,
+        // where n(n+1)(2n+1) no longer fits an int)
+        BigInteger difference = squareOfSum.subtract(sumOfSquares);
 
         System.out.println("The difference between the sum of the squares and the square of the sum of the first " + n + " natural numbers is: " + difference);
     }
+
+    // The answer for n = 100, for the harness in ../Harness
+    static long solve() {
+        return PowerSums.powerSum(100, 1).pow(2).subtract(PowerSums.powerSum(100, 2)).longValueExact();
+    }
 }